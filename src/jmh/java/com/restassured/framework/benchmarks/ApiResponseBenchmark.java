@@ -0,0 +1,75 @@
+package com.restassured.framework.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON path extraction, assertions and deserialization on an ApiResponse
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class ApiResponseBenchmark {
+    private ApiMockServer server;
+    private ApiResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkFixtures.startServer();
+        response = BenchmarkFixtures.fetchUserResponse(server);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public String jsonPathString() {
+        return response.getStringValue("$.address.city");
+    }
+
+    @Benchmark
+    public Integer jsonPathInt() {
+        return response.getIntValue("$.id");
+    }
+
+    @Benchmark
+    public boolean jsonPathHasKey() {
+        return response.hasKey("$.company.name");
+    }
+
+    @Benchmark
+    public ApiResponse assertJsonPathValue() {
+        return response.assertStatusCode(200).assertJsonPathValue("$.username", "Bret");
+    }
+
+    @Benchmark
+    public User getBodyAsUser() {
+        return response.getBodyAs(User.class);
+    }
+
+    @Benchmark
+    public JsonNode getBodyAsJsonNode() {
+        return response.getBodyAsJsonNode();
+    }
+}
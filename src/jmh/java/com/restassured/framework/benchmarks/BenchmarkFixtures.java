@@ -0,0 +1,39 @@
+package com.restassured.framework.benchmarks;
+
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+
+/**
+ * Shared payloads and a loopback server for the benchmarks
+ */
+final class BenchmarkFixtures {
+    static final String USER_JSON = "{\"id\":1,\"name\":\"Leanne Graham\",\"username\":\"Bret\","
+            + "\"email\":\"Sincere@april.biz\",\"phone\":\"1-770-736-8031 x56442\",\"website\":\"hildegard.org\","
+            + "\"address\":{\"street\":\"Kulas Light\",\"suite\":\"Apt. 556\",\"city\":\"Gwenborough\","
+            + "\"zipcode\":\"92998-3874\",\"geo\":{\"lat\":\"-37.3159\",\"lng\":\"81.1496\"}},"
+            + "\"company\":{\"name\":\"Romaguera-Crona\",\"catchPhrase\":\"Multi-layered client-server neural-net\","
+            + "\"bs\":\"harness real-time e-markets\"}}";
+
+    private BenchmarkFixtures() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Mock server on an ephemeral port serving the user payload
+     */
+    static ApiMockServer startServer() {
+        ApiMockServer server = new ApiMockServer(0);
+        server.start();
+        server.mockGet("/users/{id}", 200, USER_JSON);
+        server.mockPost("/users", 201, USER_JSON);
+        return server;
+    }
+
+    /**
+     * A real ApiResponse for the user payload, fetched once from the loopback server
+     */
+    static ApiResponse fetchUserResponse(ApiMockServer server) {
+        return new RestApiClient(server.getBaseUrl()).get("/users/1");
+    }
+}
@@ -0,0 +1,50 @@
+package com.restassured.framework.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.restassured.framework.models.User;
+import com.restassured.framework.utils.DataUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON reads from resources and object (de)serialization through DataUtils
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class DataUtilsBenchmark {
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = DataUtils.fromJsonString(BenchmarkFixtures.USER_JSON, User.class);
+    }
+
+    @Benchmark
+    public JsonNode readJsonFromResources() {
+        return DataUtils.readJsonFromResources("testdata/user-data.json");
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return DataUtils.toJsonString(user);
+    }
+
+    @Benchmark
+    public User fromJsonString() {
+        return DataUtils.fromJsonString(BenchmarkFixtures.USER_JSON, User.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.restassured.framework.benchmarks;
+
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.models.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full RestApiClient round trips against the mock server on loopback, so the
+ * numbers are the client and server overhead without any network in between
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class RestApiClientBenchmark {
+    private ApiMockServer server;
+    private RestApiClient client;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkFixtures.startServer();
+        client = new RestApiClient(server.getBaseUrl());
+        user = new User("Leanne Graham", "Bret", "Sincere@april.biz");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public ApiResponse getUser() {
+        return client.get("/users/1");
+    }
+
+    @Benchmark
+    public ApiResponse postUser() {
+        return client.post("/users", user);
+    }
+}
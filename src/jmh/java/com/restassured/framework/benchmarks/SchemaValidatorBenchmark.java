@@ -0,0 +1,57 @@
+package com.restassured.framework.benchmarks;
+
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.utils.SchemaValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a user response against schemas/user-schema.json
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+@State(Scope.Benchmark)
+public class SchemaValidatorBenchmark {
+    private static final String USER_SCHEMA = "schemas/user-schema.json";
+    private ApiMockServer server;
+    private ApiResponse response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkFixtures.startServer();
+        response = BenchmarkFixtures.fetchUserResponse(server);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public ApiResponse validateAgainstSchema() {
+        SchemaValidator.validateResponseAgainstSchema(response, USER_SCHEMA);
+        return response;
+    }
+
+    @Benchmark
+    public ApiResponse validateRequiredFields() {
+        SchemaValidator.validateRequiredFields(response, "id", "name", "email");
+        return response;
+    }
+}
@@ -0,0 +1,130 @@
+package com.restassured.framework.cache;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.core.ApiException;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsWriter;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight for idempotent requests: while a request is in flight, identical
+ * requests from other threads do not go to the network but wait for it and share
+ * its ApiResponse, which is immutable once the body is buffered. Only requests
+ * that overlap in time are merged; nothing is kept after the leader completes.
+ */
+public class RequestCoalescer {
+    private static volatile RequestCoalescer instance;
+    private final boolean enabled;
+    private final Map<String, CompletableFuture<ApiResponse>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public RequestCoalescer(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Process-wide coalescer enabled by request.coalescing.enabled
+     */
+    public static RequestCoalescer getInstance() {
+        if (instance == null) {
+            synchronized (RequestCoalescer.class) {
+                if (instance == null) {
+                    RequestCoalescer coalescer = new RequestCoalescer(
+                            ConfigManager.getInstance().getBooleanProperty("request.coalescing.enabled", false));
+                    if (coalescer.isEnabled()) {
+                        MetricsRegistry.getInstance().register(coalescer::collect);
+                    }
+                    instance = coalescer;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Only safe methods are coalesced
+     */
+    public boolean appliesTo(String method) {
+        return enabled && ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method));
+    }
+
+    /**
+     * Key of a request: identical only if method, URL, namespace and every header match
+     */
+    public static String key(String method, String url, String namespace, Map<String, String> headers) {
+        String key = ResponseCache.key(method, url, namespace);
+        if (headers == null || headers.isEmpty()) {
+            return key;
+        }
+        Map<String, String> sorted = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        sorted.putAll(headers);
+        return key + " " + sorted;
+    }
+
+    /**
+     * Run the request, or join the identical one already in flight
+     */
+    public ApiResponse execute(String key, Supplier<ApiResponse> request) {
+        requests.incrementAndGet();
+        CompletableFuture<ApiResponse> leader = new CompletableFuture<>();
+        CompletableFuture<ApiResponse> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+        try {
+            ApiResponse response = request.get();
+            leader.complete(response);
+            return response;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private static ApiResponse await(CompletableFuture<ApiResponse> leader) {
+        try {
+            return leader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException("Interrupted while waiting for an identical request in flight", e);
+        } catch (ExecutionException e) {
+            // Every waiter fails the way the shared request failed
+            if (e.getCause() instanceof ApiException) {
+                throw (ApiException) e.getCause();
+            }
+            throw new ApiException("Identical request in flight failed", e.getCause());
+        }
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    /**
+     * Requests answered by joining an identical one instead of going to the network
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    private void collect(OpenMetricsWriter writer) {
+        writer.family("api_client_coalesced_requests", "counter", "Requests that shared an identical in-flight request's response");
+        writer.sample("api_client_coalesced_requests", "api_client_coalesced_requests_total", coalesced.get());
+    }
+}
@@ -0,0 +1,387 @@
+package com.restassured.framework.cache;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Private HTTP cache for RestApiClient's idempotent reads. Entries are keyed
+ * on method, URL and mock namespace, and remember the request headers named
+ * in the response's Vary header; a request with other values for them is a
+ * miss. Freshness follows Cache-Control max-age (or Expires), no-cache and
+ * no-store; stale entries with an ETag or Last-Modified are revalidated with
+ * a conditional request, so a 304 costs no body transfer. Responses to
+ * requests carrying Authorization or Cookie are only stored when marked
+ * Cache-Control: public, since the key does not tell credentials apart and
+ * another client must never get them. Memory is bounded
+ * by evicting the least recently used entries past the configured size.
+ */
+public class ResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCache.class);
+    // Rough per-entry bookkeeping cost on top of body and headers
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+    private static volatile ResponseCache instance;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long currentBytes;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResponseCache(boolean enabled, long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive: " + maxBytes);
+        }
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Process-wide cache configured from cache.enabled and cache.max.bytes
+     */
+    public static ResponseCache getInstance() {
+        if (instance == null) {
+            synchronized (ResponseCache.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    ResponseCache cache = new ResponseCache(config.getBooleanProperty("cache.enabled", false),
+                            Long.parseLong(config.getProperty("cache.max.bytes", "16777216")));
+                    if (cache.isEnabled()) {
+                        MetricsRegistry.getInstance().register(cache::collect);
+                    }
+                    instance = cache;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Only safe methods are served from the cache
+     */
+    public boolean appliesTo(String method) {
+        return enabled && ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method));
+    }
+
+    /**
+     * Cache key of a request; the namespace keeps tests with their own mock stubs apart
+     */
+    public static String key(String method, String url, String namespace) {
+        return method.toUpperCase(Locale.ROOT) + " " + url + (namespace != null ? " @" + namespace : "");
+    }
+
+    /**
+     * Stored entry matching the request, fresh or stale, or null. Counts a hit when the entry is fresh.
+     */
+    public Entry lookup(String key, Map<String, String> requestHeaders) {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(key);
+        }
+        if (entry == null || !entry.varyMatches(requestHeaders)) {
+            return null;
+        }
+        if (entry.isFresh()) {
+            hits.incrementAndGet();
+        }
+        return entry;
+    }
+
+    /**
+     * Store a response fetched from the network, if it may be cached. Counts a miss either way.
+     */
+    public void store(String key, String url, Map<String, String> requestHeaders, ApiResponse response) {
+        misses.incrementAndGet();
+        if (response.getStatusCode() != 200) {
+            return;
+        }
+        Map<String, String> directives = cacheControl(response.getHeader("Cache-Control"));
+        String vary = response.getHeader("Vary");
+        if (directives.containsKey("no-store") || "*".equals(vary != null ? vary.trim() : null)) {
+            return;
+        }
+        if (!directives.containsKey("public") && (header(requestHeaders, "Authorization") != null || header(requestHeaders, "Cookie") != null)) {
+            logger.debug("Response for {} was fetched with credentials and is not public, not stored", key);
+            return;
+        }
+        long lifetimeNanos = freshnessLifetimeNanos(response, directives);
+        String etag = response.getHeader("ETag");
+        String lastModified = response.getHeader("Last-Modified");
+        if (lifetimeNanos <= 0 && etag == null && lastModified == null) {
+            // Neither fresh for any time nor revalidatable
+            return;
+        }
+        Map<String, String> varyValues = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (vary != null) {
+            for (String name : vary.split(",")) {
+                if (!name.trim().isEmpty()) {
+                    varyValues.put(name.trim(), header(requestHeaders, name.trim()));
+                }
+            }
+        }
+        long weight = ENTRY_OVERHEAD_BYTES + key.length() * 2L + response.getRawResponse().asByteArray().length
+                + response.getHeaders().toString().length() * 2L;
+        if (weight > maxBytes) {
+            logger.debug("Response for {} is larger than the whole cache, not stored", key);
+            return;
+        }
+        put(key, new Entry(url, response, varyValues, etag, lastModified, System.nanoTime() + lifetimeNanos, weight));
+    }
+
+    /**
+     * Entry refreshed by a 304 answer to its conditional request
+     */
+    public Entry revalidated(String key, Entry stale, ApiResponse notModified) {
+        revalidations.incrementAndGet();
+        Map<String, String> directives = cacheControl(notModified.getHeader("Cache-Control"));
+        long lifetimeNanos = notModified.getHeader("Cache-Control") != null || notModified.getHeader("Expires") != null
+                ? freshnessLifetimeNanos(notModified, directives)
+                : stale.lifetimeNanos();
+        String etag = notModified.getHeader("ETag");
+        Entry refreshed = new Entry(stale.url, stale.response, stale.varyValues, etag != null ? etag : stale.etag,
+                stale.lastModified, System.nanoTime() + lifetimeNanos, stale.weight);
+        put(key, refreshed);
+        return refreshed;
+    }
+
+    /**
+     * Drop every entry for a URL, after an unsafe request may have changed the resource
+     */
+    public synchronized void invalidate(String url) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.url.equals(url)) {
+                currentBytes -= entry.weight;
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            currentBytes -= previous.weight;
+        }
+        currentBytes += entry.weight;
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Entry evicted = eldest.next();
+            currentBytes -= evicted.weight;
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Stale entries confirmed by a 304, served without transferring the body again
+     */
+    public long getRevalidations() {
+        return revalidations.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * Share of lookups answered without a full response, hits and revalidations alike
+     */
+    public double getHitRatio() {
+        long served = hits.get() + revalidations.get();
+        long total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getSizeBytes() {
+        return currentBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ResponseCache{entries=%d, bytes=%d, hits=%d, revalidations=%d, misses=%d, evictions=%d}",
+                size(), getSizeBytes(), hits.get(), revalidations.get(), misses.get(), evictions.get());
+    }
+
+    private void collect(OpenMetricsWriter writer) {
+        writer.family("api_client_cache_lookups", "counter", "Response cache lookups by result");
+        writer.sample("api_client_cache_lookups", "api_client_cache_lookups_total", hits.get(), "result", "hit");
+        writer.sample("api_client_cache_lookups", "api_client_cache_lookups_total", revalidations.get(), "result", "revalidated");
+        writer.sample("api_client_cache_lookups", "api_client_cache_lookups_total", misses.get(), "result", "miss");
+        writer.family("api_client_cache_evictions", "counter", "Entries evicted to stay within cache.max.bytes");
+        writer.sample("api_client_cache_evictions", "api_client_cache_evictions_total", evictions.get());
+        writer.family("api_client_cache_bytes", "gauge", "Estimated memory held by the response cache");
+        writer.sample("api_client_cache_bytes", "api_client_cache_bytes", getSizeBytes());
+    }
+
+    private static long freshnessLifetimeNanos(ApiResponse response, Map<String, String> directives) {
+        if (directives.containsKey("no-cache")) {
+            return 0;
+        }
+        long lifetimeSeconds = 0;
+        if (directives.containsKey("max-age")) {
+            lifetimeSeconds = parseSeconds(directives.get("max-age"));
+        } else if (response.getHeader("Expires") != null) {
+            Instant expires = parseDate(response.getHeader("Expires"));
+            Instant date = parseDate(response.getHeader("Date"));
+            if (expires != null) {
+                lifetimeSeconds = expires.getEpochSecond() - (date != null ? date : Instant.now()).getEpochSecond();
+            }
+        }
+        String age = response.getHeader("Age");
+        lifetimeSeconds -= age != null ? parseSeconds(age) : 0;
+        return TimeUnit.SECONDS.toNanos(Math.max(0, lifetimeSeconds));
+    }
+
+    private static Map<String, String> cacheControl(String header) {
+        Map<String, String> directives = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (header == null) {
+            return directives;
+        }
+        for (String directive : header.split(",")) {
+            String[] parts = directive.trim().split("=", 2);
+            if (!parts[0].isEmpty()) {
+                directives.put(parts[0], parts.length > 1 ? parts[1].replace("\"", "") : "");
+            }
+        }
+        return directives;
+    }
+
+    private static long parseSeconds(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Instant parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static String header(Map<String, String> headers, String name) {
+        if (headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A stored response with its freshness and validators
+     */
+    public static final class Entry {
+        private final String url;
+        private final ApiResponse response;
+        private final Map<String, String> varyValues;
+        private final String etag;
+        private final String lastModified;
+        private final long expiresAtNanos;
+        private final long storedAtNanos = System.nanoTime();
+        private final long weight;
+
+        Entry(String url, ApiResponse response, Map<String, String> varyValues, String etag, String lastModified,
+              long expiresAtNanos, long weight) {
+            this.url = url;
+            this.response = response;
+            this.varyValues = Collections.unmodifiableMap(varyValues);
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAtNanos = expiresAtNanos;
+            this.weight = weight;
+        }
+
+        public boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+
+        /**
+         * Whether the entry can be revalidated with a conditional request
+         */
+        public boolean hasValidator() {
+            return etag != null || lastModified != null;
+        }
+
+        /**
+         * If-None-Match / If-Modified-Since headers for revalidating the entry
+         */
+        public Map<String, String> conditionalHeaders() {
+            Map<String, String> headers = new LinkedHashMap<>();
+            if (etag != null) {
+                headers.put("If-None-Match", etag);
+            }
+            if (lastModified != null) {
+                headers.put("If-Modified-Since", lastModified);
+            }
+            return headers;
+        }
+
+        public ApiResponse getResponse() {
+            return response;
+        }
+
+        boolean varyMatches(Map<String, String> requestHeaders) {
+            for (Map.Entry<String, String> vary : varyValues.entrySet()) {
+                String value = header(requestHeaders, vary.getKey());
+                if (value == null ? vary.getValue() != null : !value.equals(vary.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long lifetimeNanos() {
+            return Math.max(0, expiresAtNanos - storedAtNanos);
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class ApiConstants {
     public static final String USER_AGENT = "User-Agent";
     public static final String CACHE_CONTROL = "Cache-Control";
     public static final String X_REQUESTED_WITH = "X-Requested-With";
+    public static final String X_MOCK_NAMESPACE = "X-Mock-Namespace";
     
     // Authorization Types
     public static final String BEARER = "Bearer";
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
+import com.restassured.framework.metrics.PhaseTimings;
 import io.restassured.http.Headers;
 import io.restassured.response.Response;
 import org.slf4j.Logger;
@@ -19,10 +20,48 @@ public class ApiResponse {
     private static final Logger logger = LoggerFactory.getLogger(ApiResponse.class);
     private final Response response;
     private final ObjectMapper objectMapper;
+    private final long responseTimeNanos;
+    private final PhaseTimings phaseTimings;
+    private final boolean fromCache;
 
     public ApiResponse(Response response) {
+        this(response, -1, null);
+    }
+
+    /**
+     * Response with the round-trip time measured by the client
+     */
+    public ApiResponse(Response response, long responseTimeNanos) {
+        this(response, responseTimeNanos, null);
+    }
+
+    /**
+     * Response with the round-trip time and its breakdown into request phases
+     */
+    public ApiResponse(Response response, long responseTimeNanos, PhaseTimings phaseTimings) {
+        this(response, responseTimeNanos, phaseTimings, false);
+    }
+
+    private ApiResponse(Response response, long responseTimeNanos, PhaseTimings phaseTimings, boolean fromCache) {
         this.response = response;
         this.objectMapper = new ObjectMapper();
+        this.responseTimeNanos = responseTimeNanos;
+        this.phaseTimings = phaseTimings;
+        this.fromCache = fromCache;
+    }
+
+    /**
+     * The same response served again from the response cache, with the time this lookup took
+     */
+    public ApiResponse asCacheHit(long responseTimeNanos) {
+        return new ApiResponse(response, responseTimeNanos, null, true);
+    }
+
+    /**
+     * Whether the response came from the response cache rather than a full transfer
+     */
+    public boolean isFromCache() {
+        return fromCache;
     }
 
     public int getStatusCode() {
@@ -41,6 +80,20 @@ public class ApiResponse {
         return response.getHeader(headerName);
     }
 
+    /**
+     * Round-trip time in milliseconds, as measured by RestApiClient when available
+     */
+    public double getResponseTimeMs() {
+        return responseTimeNanos >= 0 ? responseTimeNanos / 1_000_000.0 : response.getTime();
+    }
+
+    /**
+     * DNS, connect, TLS, send, wait and transfer times of the request, or null when not measured
+     */
+    public PhaseTimings getPhaseTimings() {
+        return phaseTimings;
+    }
+
     public <T> T getBodyAs(Class<T> clazz) {
         try {
             return objectMapper.readValue(getBody(), clazz);
@@ -155,6 +208,15 @@ public class ApiResponse {
         return this;
     }
 
+    public ApiResponse assertResponseTimeBelow(long maxMillis) {
+        if (getResponseTimeMs() >= maxMillis) {
+            String errorMsg = String.format("Expected response time below %d ms but took %.2f ms", maxMillis, getResponseTimeMs());
+            logger.error(errorMsg);
+            throw new AssertionError(errorMsg);
+        }
+        return this;
+    }
+
     public boolean isSuccess() {
         return getStatusCode() >= 200 && getStatusCode() < 300;
     }
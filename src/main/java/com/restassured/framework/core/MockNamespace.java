@@ -0,0 +1,101 @@
+package com.restassured.framework.core;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mock stub namespace of the test running on the current thread.
+ * RestApiClient sends it as the X-Mock-Namespace header to running mock
+ * servers, and ApiMockServer files stubs registered from this thread under it,
+ * so concurrent tests sharing one mock server never see each other's stubs.
+ * Pool threads outlive the test that created them, so the namespace is not
+ * inherited; work handed to another thread carries it with {@link #bind}.
+ */
+public final class MockNamespace {
+    private static final ThreadLocal<String> current = new ThreadLocal<>();
+    // host:port of every running mock server
+    private static final Set<String> servers = ConcurrentHashMap.newKeySet();
+
+    private MockNamespace() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static void set(String namespace) {
+        if (namespace == null) {
+            current.remove();
+        } else {
+            current.set(namespace);
+        }
+    }
+
+    /**
+     * Namespace of the current thread, or null when stubs are shared
+     */
+    public static String get() {
+        return current.get();
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    /**
+     * Task that runs under the current thread's namespace on whichever thread executes it
+     */
+    public static <T> Callable<T> bind(Callable<T> task) {
+        String namespace = get();
+        return () -> {
+            String previous = get();
+            set(namespace);
+            try {
+                return task.call();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * Task that runs under the current thread's namespace on whichever thread executes it
+     */
+    public static Runnable bind(Runnable task) {
+        String namespace = get();
+        return () -> {
+            String previous = get();
+            set(namespace);
+            try {
+                task.run();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * Called by a mock server once it accepts requests at the given base URL
+     */
+    public static void registerServer(String baseUrl) {
+        servers.add(authority(baseUrl));
+    }
+
+    public static void unregisterServer(String baseUrl) {
+        servers.remove(authority(baseUrl));
+    }
+
+    /**
+     * Whether requests to the URL reach a running mock server, the only place the namespace means anything
+     */
+    public static boolean isMockServer(String url) {
+        return url != null && !servers.isEmpty() && servers.contains(authority(url));
+    }
+
+    private static String authority(String url) {
+        URI uri = URI.create(url);
+        String host = uri.getHost() != null ? uri.getHost().toLowerCase(Locale.ROOT) : "";
+        int port = uri.getPort() != -1 ? uri.getPort() : "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        return host + ":" + port;
+    }
+}
@@ -0,0 +1,103 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.metrics.PhaseTimings;
+import com.restassured.framework.metrics.RequestPhase;
+
+import java.io.IOException;
+import java.net.Socket;
+
+/**
+ * Collects the phase timings of the request running on the current thread.
+ * RestAssured executes a request synchronously on the calling thread, so the
+ * transport hooks find the recorder through a thread local. It also holds the
+ * request's socket, so another thread can abort the request by closing it.
+ */
+final class PhaseRecorder {
+    private static final ThreadLocal<PhaseRecorder> current = new ThreadLocal<>();
+    private final long[] nanos = new long[RequestPhase.values().length];
+    private boolean connectionOpened;
+    private long sentAtNanos;
+    private Socket socket;
+    private boolean aborted;
+
+    private PhaseRecorder() {
+    }
+
+    static PhaseRecorder start() {
+        PhaseRecorder recorder = new PhaseRecorder();
+        current.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * Recorder the caller already started on this thread, or a new one
+     */
+    static PhaseRecorder startOrResume() {
+        PhaseRecorder recorder = current.get();
+        return recorder != null ? recorder : start();
+    }
+
+    /**
+     * Recorder of the current thread, or null outside RestApiClient
+     */
+    static PhaseRecorder current() {
+        return current.get();
+    }
+
+    static void clear() {
+        current.remove();
+    }
+
+    synchronized void add(RequestPhase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += Math.max(0, elapsedNanos);
+    }
+
+    synchronized void connectionOpened() {
+        connectionOpened = true;
+    }
+
+    synchronized void requestSent(long sendNanos) {
+        nanos[RequestPhase.SEND.ordinal()] += sendNanos;
+        sentAtNanos = System.nanoTime();
+    }
+
+    synchronized void headersReceived() {
+        if (sentAtNanos != 0) {
+            nanos[RequestPhase.WAIT.ordinal()] += System.nanoTime() - sentAtNanos;
+            sentAtNanos = 0;
+        }
+    }
+
+    synchronized void socketConnected(Socket connected) {
+        socket = connected;
+        if (aborted) {
+            closeSocket();
+        }
+    }
+
+    /**
+     * Abort the request from another thread: its blocking socket calls fail and it throws
+     */
+    synchronized void abort() {
+        aborted = true;
+        closeSocket();
+    }
+
+    synchronized boolean isAborted() {
+        return aborted;
+    }
+
+    private void closeSocket() {
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Aborting anyway
+            }
+        }
+    }
+
+    synchronized PhaseTimings finish(long totalNanos) {
+        return new PhaseTimings(nanos, totalNanos, !connectionOpened);
+    }
+}
@@ -0,0 +1,258 @@
+package com.restassured.framework.core;
+
+import com.restassured.framework.metrics.RequestPhase;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.protocol.ClientContext;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.scheme.SchemeSocketFactory;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.BasicClientConnectionManager;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.UnknownHostException;
+
+/**
+ * The HttpClient RestAssured uses by default, instrumented to report request
+ * phases to the current {@link PhaseRecorder}: DNS through the connection
+ * operator, TCP connect through the socket, TLS as the rest of opening a
+ * secure socket, and send, wait and transfer through the request executor.
+ */
+@SuppressWarnings("deprecation")
+class PhaseTimingHttpClient extends DefaultHttpClient {
+
+    @Override
+    protected ClientConnectionManager createClientConnectionManager() {
+        return new BasicClientConnectionManager(SchemeRegistryFactory.createDefault()) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+                return new TimedConnectionOperator(schemeRegistry);
+            }
+        };
+    }
+
+    @Override
+    protected HttpRequestExecutor createRequestExecutor() {
+        return new TimedRequestExecutor();
+    }
+
+    private static final class TimedConnectionOperator extends DefaultClientConnectionOperator {
+
+        TimedConnectionOperator(SchemeRegistry schemeRegistry) {
+            super(schemeRegistry);
+        }
+
+        @Override
+        public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                   HttpContext context, HttpParams params) throws IOException {
+            PhaseRecorder recorder = PhaseRecorder.current();
+            if (recorder == null) {
+                super.openConnection(conn, target, local, context, params);
+                return;
+            }
+            recorder.connectionOpened();
+            // Open through a registry whose scheme socket factory is timed; the operator
+            // prefers the registry from the context over its own
+            Object contextRegistry = context != null ? context.getAttribute(ClientContext.SCHEME_REGISTRY) : null;
+            SchemeRegistry registry = contextRegistry instanceof SchemeRegistry ? (SchemeRegistry) contextRegistry : schemeRegistry;
+            Scheme scheme = registry.getScheme(target.getSchemeName());
+            SchemeRegistry timedRegistry = new SchemeRegistry();
+            timedRegistry.register(new Scheme(scheme.getName(), scheme.getDefaultPort(),
+                    new TimedSocketFactory(scheme.getSchemeSocketFactory(), recorder)));
+            HttpContext timedContext = new BasicHttpContext(context);
+            timedContext.setAttribute(ClientContext.SCHEME_REGISTRY, timedRegistry);
+            super.openConnection(conn, target, local, timedContext, params);
+        }
+
+        @Override
+        protected InetAddress[] resolveHostname(String host) throws UnknownHostException {
+            PhaseRecorder recorder = PhaseRecorder.current();
+            long start = System.nanoTime();
+            try {
+                return super.resolveHostname(host);
+            } finally {
+                if (recorder != null) {
+                    recorder.add(RequestPhase.DNS, System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    private static final class TimedSocketFactory implements SchemeSocketFactory {
+        private final SchemeSocketFactory delegate;
+        private final PhaseRecorder recorder;
+
+        TimedSocketFactory(SchemeSocketFactory delegate, PhaseRecorder recorder) {
+            this.delegate = delegate;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Socket createSocket(HttpParams params) throws IOException {
+            // Both stock factories start from a plain unconnected socket
+            if (delegate instanceof PlainSocketFactory || delegate instanceof SSLSocketFactory) {
+                return new TimedSocket();
+            }
+            return delegate.createSocket(params);
+        }
+
+        @Override
+        public Socket connectSocket(Socket sock, InetSocketAddress remoteAddress, InetSocketAddress localAddress,
+                                    HttpParams params) throws IOException, UnknownHostException, ConnectTimeoutException {
+            long start = System.nanoTime();
+            Socket connected = null;
+            try {
+                connected = delegate.connectSocket(sock, remoteAddress, localAddress, params);
+                recorder.socketConnected(connected);
+                return connected;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                long tcp = sock instanceof TimedSocket ? ((TimedSocket) sock).connectNanos : elapsed;
+                recorder.add(RequestPhase.CONNECT, tcp);
+                if (connected != null && delegate.isSecure(connected)) {
+                    recorder.add(RequestPhase.TLS, elapsed - tcp);
+                }
+            }
+        }
+
+        @Override
+        public boolean isSecure(Socket sock) {
+            return delegate.isSecure(sock);
+        }
+    }
+
+    private static final class TimedSocket extends Socket {
+        private long connectNanos;
+
+        @Override
+        public void connect(SocketAddress endpoint, int timeout) throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.connect(endpoint, timeout);
+            } finally {
+                connectNanos = System.nanoTime() - start;
+            }
+        }
+    }
+
+    private static final class TimedRequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws IOException, HttpException {
+            PhaseRecorder recorder = PhaseRecorder.current();
+            long start = System.nanoTime();
+            HttpResponse response = super.doSendRequest(request, conn, context);
+            if (recorder != null) {
+                recorder.requestSent(System.nanoTime() - start);
+            }
+            return response;
+        }
+
+        @Override
+        protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+                throws HttpException, IOException {
+            HttpResponse response = super.doReceiveResponse(request, conn, context);
+            PhaseRecorder recorder = PhaseRecorder.current();
+            if (recorder != null) {
+                recorder.headersReceived();
+                if (response.getEntity() != null) {
+                    response.setEntity(new TimedEntity(response.getEntity(), recorder));
+                }
+            }
+            return response;
+        }
+    }
+
+    /**
+     * Records the transfer phase from the first access to the body until it has been
+     * read to the end or closed; time before the first access is client-side work
+     */
+    private static final class TimedEntity extends HttpEntityWrapper {
+        private final PhaseRecorder recorder;
+        private long readStart;
+        private boolean recorded;
+
+        TimedEntity(HttpEntity entity, PhaseRecorder recorder) {
+            super(entity);
+            this.recorder = recorder;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            synchronized (this) {
+                if (readStart == 0) {
+                    readStart = System.nanoTime();
+                }
+            }
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int value = super.read();
+                    if (value < 0) {
+                        complete();
+                    }
+                    return value;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int count = super.read(buffer, offset, length);
+                    if (count < 0) {
+                        complete();
+                    }
+                    return count;
+                }
+
+                @Override
+                public void close() throws IOException {
+                    complete();
+                    super.close();
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream out) throws IOException {
+            try (InputStream in = getContent()) {
+                byte[] buffer = new byte[8192];
+                int count;
+                while ((count = in.read(buffer)) >= 0) {
+                    out.write(buffer, 0, count);
+                }
+            }
+        }
+
+        private synchronized void complete() {
+            if (!recorded && readStart != 0) {
+                recorded = true;
+                recorder.add(RequestPhase.TRANSFER, System.nanoTime() - readStart);
+            }
+        }
+    }
+}
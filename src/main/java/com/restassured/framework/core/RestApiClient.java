@@ -1,7 +1,21 @@
 package com.restassured.framework.core;
 
+import com.restassured.framework.cache.RequestCoalescer;
+import com.restassured.framework.cache.ResponseCache;
 import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.constants.ApiConstants;
+import com.restassured.framework.metrics.EndpointKey;
+import com.restassured.framework.metrics.LatencyRegistry;
+import com.restassured.framework.metrics.PhaseTimings;
+import com.restassured.framework.resilience.AdaptiveConcurrencyLimit;
+import com.restassured.framework.resilience.CircuitBreaker;
+import com.restassured.framework.resilience.CircuitBreakerRegistry;
+import com.restassured.framework.resilience.CircuitOpenException;
+import com.restassured.framework.resilience.ConcurrencyLimiter;
+import com.restassured.framework.resilience.HedgePolicy;
+import com.restassured.framework.resilience.RateLimiter;
 import io.restassured.RestAssured;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.http.Method;
 import io.restassured.response.Response;
@@ -9,8 +23,20 @@ import io.restassured.specification.RequestSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Reusable REST API Client with comprehensive logging and error handling
@@ -19,9 +45,32 @@ public class RestApiClient {
     private static final Logger logger = LoggerFactory.getLogger(RestApiClient.class);
     private final ConfigManager configManager;
     private final Map<String, String> defaultHeaders = new HashMap<>();
+    private final String baseUrl;
+    private static final AtomicInteger asyncThreads = new AtomicInteger();
+    // Shared by all clients; rate limit waits happen before a task reaches it
+    private static final ExecutorService asyncExecutor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "rest-client-async-" + asyncThreads.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LatencyRegistry latencyRegistry = LatencyRegistry.getInstance();
+    private RateLimiter rateLimiter = RateLimiter.getInstance();
+    private ConcurrencyLimiter concurrencyLimiter = ConcurrencyLimiter.getInstance();
+    private CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.getInstance();
+    private HedgePolicy hedgePolicy = HedgePolicy.getInstance();
+    private ResponseCache responseCache = ResponseCache.getInstance();
+    private RequestCoalescer coalescer = RequestCoalescer.getInstance();
 
     public RestApiClient() {
+        this(null);
+    }
+
+    /**
+     * Client bound to a fixed base URL instead of the configured base.url
+     */
+    public RestApiClient(String baseUrl) {
         this.configManager = ConfigManager.getInstance();
+        this.baseUrl = baseUrl;
     }
 
     /**
@@ -157,6 +206,34 @@ public class RestApiClient {
         return request(Method.OPTIONS, endpoint, headers, queryParams, null, pathParams, contentType, accept);
     }
 
+    /**
+     * GET Request to endpoint without blocking the caller
+     */
+    public CompletableFuture<ApiResponse> getAsync(String endpoint) {
+        return getAsync(endpoint, null);
+    }
+
+    /**
+     * GET Request to endpoint with headers without blocking the caller
+     */
+    public CompletableFuture<ApiResponse> getAsync(String endpoint, Map<String, String> headers) {
+        return requestAsync(Method.GET, endpoint, headers, null);
+    }
+
+    /**
+     * POST Request to endpoint without blocking the caller
+     */
+    public CompletableFuture<ApiResponse> postAsync(String endpoint, Object body) {
+        return postAsync(endpoint, body, null);
+    }
+
+    /**
+     * POST Request to endpoint with headers without blocking the caller
+     */
+    public CompletableFuture<ApiResponse> postAsync(String endpoint, Object body, Map<String, String> headers) {
+        return requestAsync(Method.POST, endpoint, headers, body);
+    }
+
     private void logResponse(ApiResponse response) {
         logger.info("Response Status: {}", response.getStatusCode());
         logger.debug("Response Headers: {}", response.getHeaders());
@@ -179,6 +256,57 @@ public class RestApiClient {
         }
     }
 
+    public String getBaseUrl() {
+        return baseUrl != null ? baseUrl : configManager.getBaseUrl();
+    }
+
+    /**
+     * Use a dedicated rate limiter instead of the process-wide one from config
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Use a dedicated adaptive concurrency limiter instead of the process-wide one from config
+     */
+    public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    /**
+     * Use dedicated circuit breakers instead of the process-wide ones from config
+     */
+    public void setCircuitBreakers(CircuitBreakerRegistry circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    /**
+     * Use a dedicated hedge policy instead of the process-wide one from config
+     */
+    public void setHedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+    }
+
+    /**
+     * Use a dedicated response cache instead of the process-wide one from config
+     */
+    public void setResponseCache(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Use a dedicated request coalescer instead of the process-wide one from config
+     */
+    public void setRequestCoalescer(RequestCoalescer coalescer) {
+        this.coalescer = coalescer;
+    }
+
+    private String getHost() {
+        String host = URI.create(getBaseUrl()).getHost();
+        return host != null ? host : "";
+    }
+
     private void applyDefaultHeaders(RequestSpecification request) {
         if (!defaultHeaders.isEmpty()) {
             request.headers(defaultHeaders);
@@ -186,9 +314,315 @@ public class RestApiClient {
     }
 
     private ApiResponse request(Method method, String endpoint, Map<String, String> headers, Map<String, ?> queryParams, Object body, Map<String, ?> pathParams, ContentType contentType, String accept) {
+        if (coalescer.appliesTo(method.name())) {
+            String key = RequestCoalescer.key(method.name(), resolveUrl(endpoint, queryParams, pathParams), MockNamespace.get(), requestHeaders(headers));
+            return coalescer.execute(key, () -> requestThroughCache(method, endpoint, headers, queryParams, body, pathParams, contentType, accept));
+        }
+        return requestThroughCache(method, endpoint, headers, queryParams, body, pathParams, contentType, accept);
+    }
+
+    private ApiResponse requestThroughCache(Method method, String endpoint, Map<String, String> headers, Map<String, ?> queryParams, Object body, Map<String, ?> pathParams, ContentType contentType, String accept) {
+        if (!responseCache.isEnabled()) {
+            return execute(method, endpoint, headers, queryParams, body, pathParams, contentType, accept);
+        }
+        String url = resolveUrl(endpoint, queryParams, pathParams);
+        if (!responseCache.appliesTo(method.name())) {
+            ApiResponse response = execute(method, endpoint, headers, queryParams, body, pathParams, contentType, accept);
+            invalidateCachedReads(url, response);
+            return response;
+        }
+        String key = ResponseCache.key(method.name(), url, MockNamespace.get());
+        Map<String, String> requestHeaders = requestHeaders(headers);
+        long startNanos = System.nanoTime();
+        ResponseCache.Entry cached = responseCache.lookup(key, requestHeaders);
+        if (cached != null && cached.isFresh()) {
+            logger.info("{} {} served from cache", method, endpoint);
+            return cached.getResponse().asCacheHit(System.nanoTime() - startNanos);
+        }
+        Map<String, String> conditionalHeaders = headers;
+        if (cached != null && cached.hasValidator()) {
+            conditionalHeaders = new HashMap<>(headers != null ? headers : Map.of());
+            conditionalHeaders.putAll(cached.conditionalHeaders());
+        }
+        ApiResponse response = execute(method, endpoint, conditionalHeaders, queryParams, body, pathParams, contentType, accept);
+        if (cached != null && response.getStatusCode() == 304) {
+            logger.info("{} {} revalidated, serving cached body", method, endpoint);
+            return responseCache.revalidated(key, cached, response).getResponse().asCacheHit(System.nanoTime() - startNanos);
+        }
+        responseCache.store(key, url, requestHeaders, response);
+        return response;
+    }
+
+    /**
+     * A successful write may have changed what a cached read of the same URL returned
+     */
+    private void invalidateCachedReads(String url, ApiResponse response) {
+        if (response.getStatusCode() < 400) {
+            responseCache.invalidate(url);
+        }
+    }
+
+    /**
+     * Default headers overlaid with the request's own
+     */
+    private Map<String, String> requestHeaders(Map<String, String> headers) {
+        Map<String, String> requestHeaders = new HashMap<>(defaultHeaders);
+        if (headers != null) {
+            requestHeaders.putAll(headers);
+        }
+        return requestHeaders;
+    }
+
+    /**
+     * Full URL of a request as the response cache and coalescer know it: path parameters filled in, query parameters sorted
+     */
+    private String resolveUrl(String endpoint, Map<String, ?> queryParams, Map<String, ?> pathParams) {
+        String path = endpoint;
+        if (pathParams != null) {
+            for (Map.Entry<String, ?> param : pathParams.entrySet()) {
+                path = path.replace("{" + param.getKey() + "}", String.valueOf(param.getValue()));
+            }
+        }
+        StringBuilder url = new StringBuilder(getBaseUrl()).append(path);
+        if (queryParams != null && !queryParams.isEmpty()) {
+            char separator = path.contains("?") ? '&' : '?';
+            for (Map.Entry<String, ?> param : new TreeMap<>(queryParams).entrySet()) {
+                url.append(separator).append(param.getKey()).append('=').append(param.getValue());
+                separator = '&';
+            }
+        }
+        return url.toString();
+    }
+
+    private ApiResponse execute(Method method, String endpoint, Map<String, String> headers, Map<String, ?> queryParams, Object body, Map<String, ?> pathParams, ContentType contentType, String accept) {
+        // An open circuit fails fast, before any rate limit or concurrency slot is spent
+        CircuitBreaker breaker = circuitBreakers.forEndpoint(method.name(), endpoint);
+        if (breaker != null) {
+            breaker.acquirePermission();
+        }
+        String host = getHost();
+        try {
+            rateLimiter.acquire(host, method.name(), endpoint);
+        } catch (ApiException e) {
+            if (breaker != null) {
+                breaker.releasePermission();
+            }
+            throw e;
+        }
+        AdaptiveConcurrencyLimit.Permit permit;
+        try {
+            permit = concurrencyLimiter.acquire(host);
+        } catch (InterruptedException e) {
+            if (breaker != null) {
+                breaker.releasePermission();
+            }
+            Thread.currentThread().interrupt();
+            throw new ApiException(method + " request interrupted while waiting for a concurrency slot", e);
+        }
+        return send(breaker, permit, method, endpoint, headers, queryParams, body, pathParams, contentType, accept);
+    }
+
+    private CompletableFuture<ApiResponse> requestAsync(Method method, String endpoint, Map<String, String> headers, Object body) {
+        CircuitBreaker breaker = circuitBreakers.forEndpoint(method.name(), endpoint);
+        if (breaker != null) {
+            try {
+                breaker.acquirePermission();
+            } catch (CircuitOpenException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        // Pool threads outlive the test that started them, so hand its context over explicitly
+        CallerContext context = new CallerContext();
+        String host = getHost();
+        return rateLimiter.acquireAsync(host, method.name(), endpoint)
+                .thenCompose(ignored -> concurrencyLimiter.acquireAsync(host))
+                .thenApplyAsync(permit -> context.run(() -> {
+                    ApiResponse response = send(breaker, permit, method, endpoint, headers, null, body, null, null, null);
+                    if (responseCache.isEnabled() && !responseCache.appliesTo(method.name())) {
+                        invalidateCachedReads(resolveUrl(endpoint, null, null), response);
+                    }
+                    return response;
+                }), asyncExecutor);
+    }
+
+    /**
+     * Send while holding a concurrency permit and circuit permission (either null when disabled).
+     * Failures and overload responses shrink the limit; failures, 5xx and slow calls count against the circuit.
+     */
+    private ApiResponse send(CircuitBreaker breaker, AdaptiveConcurrencyLimit.Permit permit, Method method, String endpoint, Map<String, String> headers, Map<String, ?> queryParams, Object body, Map<String, ?> pathParams, ContentType contentType, String accept) {
+        boolean dropped = true;
+        long startNanos = System.nanoTime();
+        try {
+            ApiResponse response = hedgePolicy.appliesTo(method.name())
+                    ? sendHedged(method, endpoint, headers, queryParams, pathParams, contentType, accept)
+                    : send(method, endpoint, headers, queryParams, body, pathParams, contentType, accept);
+            int statusCode = response.getStatusCode();
+            dropped = isOverloaded(statusCode);
+            if (breaker != null) {
+                if (statusCode >= 500) {
+                    breaker.onFailure(System.nanoTime() - startNanos, "HTTP " + statusCode, null);
+                } else {
+                    breaker.onSuccess(System.nanoTime() - startNanos);
+                }
+            }
+            return response;
+        } catch (ApiException e) {
+            if (breaker != null) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                breaker.onFailure(System.nanoTime() - startNanos, cause.getClass().getSimpleName() + ": " + cause.getMessage(), cause);
+            }
+            throw e;
+        } finally {
+            if (permit != null) {
+                permit.release(dropped);
+            }
+        }
+    }
+
+    /**
+     * Send an idempotent request and, if it has not answered within the endpoint's hedge delay,
+     * an identical second one; the first response wins and the other request is aborted.
+     * The hedge is only sent if a rate limit slot and a concurrency permit are free right away.
+     */
+    private ApiResponse sendHedged(Method method, String endpoint, Map<String, String> headers, Map<String, ?> queryParams, Map<String, ?> pathParams, ContentType contentType, String accept) {
+        long delayNanos = hedgePolicy.delayNanos(method.name(), endpoint);
+        CallerContext context = new CallerContext();
+        Supplier<ApiResponse> call = () -> send(method, endpoint, headers, queryParams, null, pathParams, contentType, accept);
+        HedgedAttempt primary = new HedgedAttempt(call, context, null);
+        HedgedAttempt hedge = null;
+        try {
+            try {
+                return primary.result.get(delayNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (!hedgePolicy.tryAcquireHedge()) {
+                    return primary.result.get();
+                }
+            }
+            // Waiting for a slot would defeat the purpose of the hedge, so it is skipped instead
+            String host = getHost();
+            if (!rateLimiter.tryAcquire(host, method.name(), endpoint)) {
+                logger.debug("{} {} not hedged, no rate limit slot free", method, endpoint);
+                hedgePolicy.releaseHedge();
+                return primary.result.get();
+            }
+            AdaptiveConcurrencyLimit.Permit hedgePermit = null;
+            if (concurrencyLimiter.isEnabled()) {
+                hedgePermit = concurrencyLimiter.limitFor(host).tryAcquire();
+                if (hedgePermit == null) {
+                    logger.debug("{} {} not hedged, no concurrency slot free", method, endpoint);
+                    hedgePolicy.releaseHedge();
+                    return primary.result.get();
+                }
+            }
+            logger.info("{} {} slower than {} ms, sending hedge request", method, endpoint, TimeUnit.NANOSECONDS.toMillis(delayNanos));
+            hedge = new HedgedAttempt(call, context, hedgePermit);
+            ApiResponse response = firstSuccessful(primary.result, hedge.result).get();
+            if (response == hedge.result.getNow(null)) {
+                hedgePolicy.recordHedgeWin();
+                primary.cancel();
+            } else {
+                hedge.cancel();
+            }
+            return response;
+        } catch (InterruptedException e) {
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+            Thread.currentThread().interrupt();
+            throw new ApiException(method + " request interrupted", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof ApiException ? (ApiException) e.getCause() : new ApiException(method + " request failed", e.getCause());
+        }
+    }
+
+    private static CompletableFuture<ApiResponse> firstSuccessful(CompletableFuture<ApiResponse> first, CompletableFuture<ApiResponse> second) {
+        CompletableFuture<ApiResponse> winner = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        for (CompletableFuture<ApiResponse> attempt : List.of(first, second)) {
+            attempt.whenComplete((response, error) -> {
+                if (error == null) {
+                    winner.complete(response);
+                } else if (failures.incrementAndGet() == 2) {
+                    winner.completeExceptionally(error instanceof CompletionException ? error.getCause() : error);
+                }
+            });
+        }
+        return winner;
+    }
+
+    /**
+     * Per-test state of the calling thread that a request carries onto pool threads:
+     * the mock namespace and the scoped latency registry
+     */
+    private static final class CallerContext {
+        private final String namespace = MockNamespace.get();
+        private final LatencyRegistry latencyScope = LatencyRegistry.getScope();
+
+        <T> T run(Supplier<T> call) {
+            String previousNamespace = MockNamespace.get();
+            LatencyRegistry previousScope = LatencyRegistry.getScope();
+            MockNamespace.set(namespace);
+            LatencyRegistry.setScope(latencyScope);
+            try {
+                return call.get();
+            } finally {
+                MockNamespace.set(previousNamespace);
+                LatencyRegistry.setScope(previousScope);
+            }
+        }
+    }
+
+    /**
+     * One attempt of a hedged request, running on the async pool so the caller can wait for either.
+     * An attempt given its own concurrency permit releases it when it completes or is cancelled.
+     */
+    private static final class HedgedAttempt {
+        private final CompletableFuture<ApiResponse> result;
+        private final AdaptiveConcurrencyLimit.Permit permit;
+        private volatile PhaseRecorder recorder;
+        private volatile boolean cancelled;
+
+        HedgedAttempt(Supplier<ApiResponse> call, CallerContext context, AdaptiveConcurrencyLimit.Permit permit) {
+            this.permit = permit;
+            this.result = CompletableFuture.supplyAsync(() -> context.run(() -> {
+                if (cancelled) {
+                    throw new ApiException("Hedged attempt cancelled before it was sent");
+                }
+                recorder = PhaseRecorder.start();
+                if (cancelled) {
+                    recorder.abort();
+                }
+                return call.get();
+            }), asyncExecutor);
+            if (permit != null) {
+                // Aborting the loser is no sign of overload, only real failures shrink the limit
+                result.whenComplete((response, error) -> permit.release(
+                        error != null ? !cancelled : isOverloaded(response.getStatusCode())));
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            PhaseRecorder started = recorder;
+            if (started != null) {
+                started.abort();
+            }
+            if (permit != null) {
+                permit.release(false);
+            }
+        }
+    }
+
+    private static boolean isOverloaded(int statusCode) {
+        return statusCode == 429 || statusCode == 503 || statusCode == 504;
+    }
+
+    private ApiResponse send(Method method, String endpoint, Map<String, String> headers, Map<String, ?> queryParams, Object body, Map<String, ?> pathParams, ContentType contentType, String accept) {
         logger.info("Making {} request to: {}", method, endpoint);
         RequestSpecification request = RestAssured.given()
-                .baseUri(configManager.getBaseUrl());
+                .baseUri(getBaseUrl())
+                .config(phaseTimingConfig());
 
         // Content-Type
         if (contentType != null) {
@@ -202,6 +636,11 @@ public class RestApiClient {
         }
         // Default headers
         applyDefaultHeaders(request);
+        // Mock stub namespace of the current test, meaningless to anything but a mock server
+        String namespace = MockNamespace.get();
+        if (namespace != null && MockNamespace.isMockServer(getBaseUrl())) {
+            request.header(ApiConstants.X_MOCK_NAMESPACE, namespace);
+        }
         // Custom headers
         if (headers != null) {
             request.headers(headers);
@@ -222,14 +661,50 @@ public class RestApiClient {
             request.body(body);
             logger.debug("Request body: {}", body);
         }
+        // A hedged attempt starts its recorder early so it can be aborted
+        PhaseRecorder phases = PhaseRecorder.startOrResume();
+        long startNanos = System.nanoTime();
         try {
             Response response = request.request(method, endpoint);
-            ApiResponse apiResponse = new ApiResponse(response);
+            // RestAssured reads the body lazily; buffer it now so transfer is part of the timing
+            response.asByteArray();
+            long elapsedNanos = System.nanoTime() - startNanos;
+            PhaseTimings timings = phases.finish(elapsedNanos);
+            EndpointKey key = EndpointKey.of(method.name(), endpoint, response.getStatusCode());
+            LatencyRegistry scoped = LatencyRegistry.getScope();
+            for (LatencyRegistry registry : scoped != null ? List.of(latencyRegistry, scoped) : List.of(latencyRegistry)) {
+                registry.record(key, elapsedNanos);
+                registry.recordPhases(key, timings);
+            }
+            ApiResponse apiResponse = new ApiResponse(response, elapsedNanos, timings);
             logResponse(apiResponse);
+            logger.info("{} {} completed in {} ms", method, endpoint, String.format("%.2f", elapsedNanos / 1_000_000.0));
+            logger.debug("{} {} phases: {}", method, endpoint, timings);
             return apiResponse;
         } catch (Exception e) {
+            if (phases.isAborted()) {
+                logger.debug("{} {} cancelled, another attempt answered first", method, endpoint);
+                throw new ApiException(method + " request cancelled", e);
+            }
+            EndpointKey key = EndpointKey.error(method.name(), endpoint);
+            long elapsedNanos = System.nanoTime() - startNanos;
+            LatencyRegistry scoped = LatencyRegistry.getScope();
+            for (LatencyRegistry registry : scoped != null ? List.of(latencyRegistry, scoped) : List.of(latencyRegistry)) {
+                registry.record(key, elapsedNanos);
+                registry.recordError(key, e.getClass().getSimpleName());
+            }
             logger.error("{} request failed for endpoint: {}", method, endpoint, e);
             throw new ApiException(method + " request failed", e);
+        } finally {
+            PhaseRecorder.clear();
         }
     }
+
+    /**
+     * Global RestAssured config with the phase-timing HttpClient plugged in
+     */
+    private static RestAssuredConfig phaseTimingConfig() {
+        RestAssuredConfig config = RestAssured.config();
+        return config.httpClient(config.getHttpClientConfig().httpClientFactory(PhaseTimingHttpClient::new));
+    }
 } 
\ No newline at end of file
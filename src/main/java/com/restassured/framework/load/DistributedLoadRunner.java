@@ -0,0 +1,131 @@
+package com.restassured.framework.load;
+
+import com.restassured.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Coordinator for load beyond what one JVM can generate. Spawns worker JVMs
+ * on the current classpath, each running {@link LoadWorker} on its partition
+ * of the profile from a common start time, then merges their histograms and
+ * counters into one {@link LoadTestResult}. Workers share nothing, so
+ * capacity grows with the number of workers until the host runs out of cores.
+ * The scenario is a {@link LoadRequest} class with a public no-arg
+ * constructor, since a lambda cannot be handed to another process.
+ */
+public class DistributedLoadRunner {
+    private static final Logger logger = LoggerFactory.getLogger(DistributedLoadRunner.class);
+    private final String baseUrl;
+    private final int workers;
+    private final int maxConcurrencyPerWorker;
+    private final long startDelayMs;
+    private final long drainTimeoutMs;
+    private final List<String> jvmArgs;
+
+    public DistributedLoadRunner(String baseUrl, int workers) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (workers < 1) {
+            throw new IllegalArgumentException("At least one load worker is required");
+        }
+        this.baseUrl = baseUrl;
+        this.workers = workers;
+        this.maxConcurrencyPerWorker = config.getIntProperty("load.max.concurrency", 200);
+        this.startDelayMs = config.getIntProperty("load.distributed.start.delay.ms", 5000);
+        this.drainTimeoutMs = config.getIntProperty("load.drain.timeout.ms", 60000);
+        String args = config.getProperty("load.distributed.jvm.args", "").trim();
+        this.jvmArgs = args.isEmpty() ? new ArrayList<>() : Arrays.asList(args.split("\\s+"));
+    }
+
+    public LoadTestResult run(Class<? extends LoadRequest> scenario, LoadPhase... phases) {
+        return run(scenario, Arrays.asList(phases));
+    }
+
+    public LoadTestResult run(Class<? extends LoadRequest> scenario, List<LoadPhase> phases) {
+        Path workDir;
+        try {
+            workDir = Files.createTempDirectory("load-workers");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to create load worker directory", e);
+        }
+        long startAt = System.currentTimeMillis() + startDelayMs;
+        String phaseArg = phases.stream().map(LoadPhase::format).collect(Collectors.joining(";"));
+        logger.info("Starting distributed load run with {} workers: {} (logs in {})", workers, phases, workDir);
+
+        List<Process> processes = new ArrayList<>();
+        try {
+            for (int i = 0; i < workers; i++) {
+                processes.add(spawn(i, scenario, phaseArg, startAt, workDir));
+            }
+            long profileMs = phases.stream().mapToLong(LoadPhase::getDurationMs).sum();
+            long deadline = startAt + profileMs + drainTimeoutMs + TimeUnit.SECONDS.toMillis(30);
+            List<LoadTestResult> results = new ArrayList<>();
+            for (int i = 0; i < workers; i++) {
+                results.add(awaitResult(i, processes.get(i), deadline, workDir));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                logger.info("Load worker {}: {}", i, results.get(i).summary());
+            }
+            LoadTestResult merged = LoadTestResult.merge(results);
+            logger.info("Distributed load run finished: {}", merged.summary());
+            return merged;
+        } finally {
+            processes.forEach(Process::destroyForcibly);
+        }
+    }
+
+    private Process spawn(int partition, Class<? extends LoadRequest> scenario, String phases, long startAt, Path workDir) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add("-Denv=" + ConfigManager.getInstance().getEnvironment());
+        command.add(LoadWorker.class.getName());
+        command.add("scenario=" + scenario.getName());
+        command.add("baseUrl=" + baseUrl);
+        command.add("partition=" + partition);
+        command.add("partitions=" + workers);
+        command.add("maxConcurrency=" + maxConcurrencyPerWorker);
+        command.add("startAt=" + startAt);
+        command.add("phases=" + phases);
+        command.add("result=" + workDir.resolve("worker-" + partition + ".json"));
+        try {
+            return new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(workDir.resolve("worker-" + partition + ".log").toFile())
+                    .start();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start load worker " + partition, e);
+        }
+    }
+
+    private static LoadTestResult awaitResult(int partition, Process process, long deadline, Path workDir) {
+        Path log = workDir.resolve("worker-" + partition + ".log");
+        try {
+            long remaining = Math.max(0, deadline - System.currentTimeMillis());
+            if (!process.waitFor(remaining, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("Load worker " + partition + " did not finish in time, see " + log);
+            }
+            if (process.exitValue() != 0) {
+                throw new RuntimeException("Load worker " + partition + " failed with exit code " + process.exitValue() + ", see " + log);
+            }
+            return LoadTestResult.fromJson(new String(Files.readAllBytes(workDir.resolve("worker-" + partition + ".json")), StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for load worker " + partition, e);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read result of load worker " + partition + ", see " + log, e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.restassured.framework.load;
+
+/**
+ * One phase of a load profile: a duration over which the target arrival
+ * rate moves linearly from a start rate to an end rate (requests/second)
+ */
+public class LoadPhase {
+    private final String name;
+    private final long durationMs;
+    private final double startRate;
+    private final double endRate;
+
+    public LoadPhase(String name, long durationMs, double startRate, double endRate) {
+        if (durationMs <= 0 || startRate < 0 || endRate < 0) {
+            throw new IllegalArgumentException(String.format("Invalid load phase %s: %dms, %.1f -> %.1f rps",
+                    name, durationMs, startRate, endRate));
+        }
+        this.name = name;
+        this.durationMs = durationMs;
+        this.startRate = startRate;
+        this.endRate = endRate;
+    }
+
+    public static LoadPhase rampUp(long durationMs, double targetRate) {
+        return new LoadPhase("ramp-up", durationMs, 0, targetRate);
+    }
+
+    public static LoadPhase steady(long durationMs, double rate) {
+        return new LoadPhase("steady", durationMs, rate, rate);
+    }
+
+    public static LoadPhase rampDown(long durationMs, double fromRate) {
+        return new LoadPhase("ramp-down", durationMs, fromRate, 0);
+    }
+
+    /**
+     * Compact form "name:durationMs:startRate:endRate", read back by {@link #parse(String)}
+     */
+    public String format() {
+        return name + ":" + durationMs + ":" + startRate + ":" + endRate;
+    }
+
+    public static LoadPhase parse(String text) {
+        String[] parts = text.split(":");
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid load phase '" + text + "', expected name:durationMs:startRate:endRate");
+        }
+        return new LoadPhase(parts[0], Long.parseLong(parts[1]), Double.parseDouble(parts[2]), Double.parseDouble(parts[3]));
+    }
+
+    /**
+     * Target arrival rate at the given offset into the phase
+     */
+    public double rateAt(long offsetNanos) {
+        double fraction = Math.min(1.0, offsetNanos / (durationMs * 1_000_000.0));
+        return startRate + (endRate - startRate) * fraction;
+    }
+
+    /**
+     * Offset of the k-th arrival (k starting at 1) from the start of the phase, or -1 if the
+     * phase ends first. Solves integral(rate) = k for the linear rate, so arrivals follow the
+     * profile exactly instead of accumulating rounding error request by request.
+     */
+    long arrivalOffsetNanos(long k) {
+        double seconds = durationMs / 1000.0;
+        double slope = (endRate - startRate) / seconds;
+        double offset;
+        if (Math.abs(slope) < 1e-12) {
+            if (startRate <= 0) {
+                return -1;
+            }
+            offset = k / startRate;
+        } else {
+            double discriminant = startRate * startRate + 2 * slope * k;
+            if (discriminant < 0) {
+                return -1;
+            }
+            offset = (Math.sqrt(discriminant) - startRate) / slope;
+        }
+        return offset >= 0 && offset <= seconds ? (long) (offset * 1_000_000_000L) : -1;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public double getStartRate() {
+        return startRate;
+    }
+
+    public double getEndRate() {
+        return endRate;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%dms, %.1f -> %.1f rps)", name, durationMs, startRate, endRate);
+    }
+}
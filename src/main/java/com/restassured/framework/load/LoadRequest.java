@@ -0,0 +1,14 @@
+package com.restassured.framework.load;
+
+import com.restassured.framework.core.RestApiClient;
+
+/**
+ * One request of a load scenario, written like a functional test step:
+ * issue the call through the client and assert on the response.
+ * Any exception or assertion error counts the request as failed.
+ */
+@FunctionalInterface
+public interface LoadRequest {
+
+    void execute(RestApiClient client) throws Exception;
+}
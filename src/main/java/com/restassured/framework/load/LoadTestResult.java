@@ -0,0 +1,153 @@
+package com.restassured.framework.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restassured.framework.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a load run. Latencies are in microseconds; the corrected
+ * histogram measures from each request's intended start time, so time a
+ * request spent waiting behind slow responses is not hidden (coordinated
+ * omission), while the service-time histogram measures from actual send.
+ */
+public class LoadTestResult {
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private final LatencyHistogram correctedLatency;
+    private final LatencyHistogram serviceTime;
+    private final Map<String, LatencyHistogram> phaseLatency;
+    private final long succeeded;
+    private final long failed;
+    private final long durationMs;
+
+    public LoadTestResult(LatencyHistogram correctedLatency, LatencyHistogram serviceTime,
+                          Map<String, LatencyHistogram> phaseLatency, long succeeded, long failed, long durationMs) {
+        this.correctedLatency = correctedLatency;
+        this.serviceTime = serviceTime;
+        this.phaseLatency = Collections.unmodifiableMap(new LinkedHashMap<>(phaseLatency));
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.durationMs = durationMs;
+    }
+
+    public LatencyHistogram getCorrectedLatency() {
+        return correctedLatency;
+    }
+
+    public LatencyHistogram getServiceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Corrected latency per phase name
+     */
+    public Map<String, LatencyHistogram> getPhaseLatency() {
+        return phaseLatency;
+    }
+
+    public long getSucceeded() {
+        return succeeded;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getTotalRequests() {
+        return succeeded + failed;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public double getThroughput() {
+        return durationMs == 0 ? 0 : getTotalRequests() * 1000.0 / durationMs;
+    }
+
+    public double getErrorRate() {
+        return getTotalRequests() == 0 ? 0 : (double) failed / getTotalRequests();
+    }
+
+    /**
+     * Combine results of runs that ran side by side, e.g. the partitions of a distributed run.
+     * Histograms are added bucket by bucket, so merged percentiles are exact to the histogram precision.
+     */
+    public static LoadTestResult merge(List<LoadTestResult> results) {
+        LatencyHistogram corrected = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        Map<String, LatencyHistogram> phaseLatency = new LinkedHashMap<>();
+        long succeeded = 0;
+        long failed = 0;
+        long durationMs = 0;
+        for (LoadTestResult result : results) {
+            corrected.add(result.correctedLatency);
+            serviceTime.add(result.serviceTime);
+            result.phaseLatency.forEach((phase, histogram) ->
+                    phaseLatency.computeIfAbsent(phase, name -> new LatencyHistogram()).add(histogram));
+            succeeded += result.succeeded;
+            failed += result.failed;
+            // Side by side runs overlap, so the merged run lasts as long as the longest one
+            durationMs = Math.max(durationMs, result.durationMs);
+        }
+        return new LoadTestResult(corrected, serviceTime, phaseLatency, succeeded, failed, durationMs);
+    }
+
+    /**
+     * JSON form with losslessly encoded histograms, for handing results between processes
+     */
+    public String toJson() {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("succeeded", succeeded);
+        root.put("failed", failed);
+        root.put("durationMs", durationMs);
+        root.put("correctedLatency", correctedLatency.encode());
+        root.put("serviceTime", serviceTime.encode());
+        ObjectNode phases = root.putObject("phaseLatency");
+        phaseLatency.forEach((phase, histogram) -> phases.put(phase, histogram.encode()));
+        return root.toString();
+    }
+
+    public static LoadTestResult fromJson(String json) {
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            Map<String, LatencyHistogram> phaseLatency = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> phases = root.path("phaseLatency").fields();
+            while (phases.hasNext()) {
+                Map.Entry<String, JsonNode> phase = phases.next();
+                phaseLatency.put(phase.getKey(), LatencyHistogram.decode(phase.getValue().asText()));
+            }
+            return new LoadTestResult(LatencyHistogram.decode(root.path("correctedLatency").asText()),
+                    LatencyHistogram.decode(root.path("serviceTime").asText()), phaseLatency,
+                    root.path("succeeded").asLong(), root.path("failed").asLong(), root.path("durationMs").asLong());
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid load test result JSON", e);
+        }
+    }
+
+    /**
+     * One-line summary with percentiles in milliseconds
+     */
+    public String summary() {
+        return String.format("requests=%d, failed=%d, throughput=%.1f/s, p50=%.1fms, p90=%.1fms, p99=%.1fms, p99.9=%.1fms, max=%.1fms (service p99=%.1fms)",
+                getTotalRequests(), failed, getThroughput(),
+                correctedLatency.getValueAtPercentile(50) / 1000.0,
+                correctedLatency.getValueAtPercentile(90) / 1000.0,
+                correctedLatency.getValueAtPercentile(99) / 1000.0,
+                correctedLatency.getValueAtPercentile(99.9) / 1000.0,
+                correctedLatency.getMaxValue() / 1000.0,
+                serviceTime.getValueAtPercentile(99) / 1000.0);
+    }
+
+    @Override
+    public String toString() {
+        return "LoadTestResult{" + summary() + "}";
+    }
+}
@@ -0,0 +1,134 @@
+package com.restassured.framework.load;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load generator driving requests through {@link RestApiClient}.
+ * Requests are released at the target arrival rate of each {@link LoadPhase}
+ * regardless of how long earlier responses take; when all workers are busy,
+ * requests queue and that wait is counted in their latency, because latency
+ * is measured from the intended start time.
+ */
+public class LoadTestRunner {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+    private final RestApiClient client;
+    private final int maxConcurrency;
+    private final long drainTimeoutMs;
+
+    public LoadTestRunner(RestApiClient client) {
+        this(client, ConfigManager.getInstance().getIntProperty("load.max.concurrency", 200));
+    }
+
+    public LoadTestRunner(RestApiClient client, int maxConcurrency) {
+        this.client = client;
+        this.maxConcurrency = maxConcurrency;
+        this.drainTimeoutMs = ConfigManager.getInstance().getIntProperty("load.drain.timeout.ms", 60000);
+    }
+
+    public LoadTestResult run(LoadRequest request, LoadPhase... phases) {
+        return run(Arrays.asList(phases), request);
+    }
+
+    public LoadTestResult run(List<LoadPhase> phases, LoadRequest request) {
+        return run(phases, request, 0, 1);
+    }
+
+    /**
+     * Run one partition of the profile: arrivals k with k % partitions == partition. Partitions
+     * run in separate processes from a common start time together replay the exact profile.
+     */
+    public LoadTestResult run(List<LoadPhase> phases, LoadRequest request, int partition, int partitions) {
+        if (partitions < 1 || partition < 0 || partition >= partitions) {
+            throw new IllegalArgumentException("Invalid load partition " + partition + " of " + partitions);
+        }
+        logger.info("Starting load run: {}{}", phases, partitions > 1 ? " (partition " + (partition + 1) + " of " + partitions + ")" : "");
+        LatencyHistogram corrected = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        Map<String, LatencyHistogram> phaseLatency = new LinkedHashMap<>();
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        AtomicInteger threadIndex = new AtomicInteger();
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long runStart = System.nanoTime();
+        long phaseStart = runStart;
+        for (LoadPhase phase : phases) {
+            LatencyHistogram phaseHistogram = phaseLatency.computeIfAbsent(phase.getName(), name -> new LatencyHistogram());
+            for (long k = partition + 1; ; k += partitions) {
+                long offset = phase.arrivalOffsetNanos(k);
+                if (offset < 0) {
+                    break;
+                }
+                long intendedStart = phaseStart + offset;
+                waitUntil(intendedStart);
+                // Workers run the requests under the caller's mock namespace
+                workers.execute(MockNamespace.bind(() -> {
+                    long sent = System.nanoTime();
+                    boolean ok = execute(request);
+                    long done = System.nanoTime();
+                    corrected.recordNanos(done - intendedStart);
+                    phaseHistogram.recordNanos(done - intendedStart);
+                    serviceTime.recordNanos(done - sent);
+                    (ok ? succeeded : failed).incrementAndGet();
+                }));
+            }
+            phaseStart += TimeUnit.MILLISECONDS.toNanos(phase.getDurationMs());
+            waitUntil(phaseStart);
+        }
+
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(drainTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.warn("{} load requests still in flight after {}ms drain timeout",
+                        workers.getActiveCount() + workers.getQueue().size(), drainTimeoutMs);
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            workers.shutdownNow();
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStart);
+        LoadTestResult result = new LoadTestResult(corrected, serviceTime, phaseLatency, succeeded.get(), failed.get(), durationMs);
+        logger.info("Load run finished: {}", result.summary());
+        return result;
+    }
+
+    private boolean execute(LoadRequest request) {
+        try {
+            request.execute(client);
+            return true;
+        } catch (Exception | AssertionError e) {
+            logger.debug("Load request failed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.restassured.framework.load;
+
+import com.restassured.framework.core.RestApiClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of a worker process spawned by {@link DistributedLoadRunner}.
+ * Runs one partition of the load profile from the common start time and
+ * writes its {@link LoadTestResult} as JSON to the given result file.
+ * Arguments are key=value pairs: scenario, baseUrl, partition, partitions,
+ * maxConcurrency, startAt (epoch millis), phases (';'-separated) and result.
+ */
+public final class LoadWorker {
+    private static final Logger logger = LoggerFactory.getLogger(LoadWorker.class);
+
+    private LoadWorker() {
+    }
+
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseArgs(args);
+            LoadRequest scenario = instantiate(require(options, "scenario"));
+            List<LoadPhase> phases = new ArrayList<>();
+            for (String phase : require(options, "phases").split(";")) {
+                phases.add(LoadPhase.parse(phase));
+            }
+            int partition = Integer.parseInt(require(options, "partition"));
+            int partitions = Integer.parseInt(require(options, "partitions"));
+            LoadTestRunner runner = new LoadTestRunner(new RestApiClient(require(options, "baseUrl")),
+                    Integer.parseInt(require(options, "maxConcurrency")));
+
+            long startAt = Long.parseLong(require(options, "startAt"));
+            long lateMs = System.currentTimeMillis() - startAt;
+            if (lateMs > 0) {
+                logger.warn("Worker {} ready {} ms after the common start; raise load.distributed.start.delay.ms", partition, lateMs);
+            }
+            while (System.currentTimeMillis() < startAt) {
+                Thread.sleep(Math.max(1, startAt - System.currentTimeMillis()));
+            }
+
+            LoadTestResult result = runner.run(phases, scenario, partition, partitions);
+            Files.write(Paths.get(require(options, "result")), result.toJson().getBytes(StandardCharsets.UTF_8));
+            System.exit(0);
+        } catch (Throwable t) {
+            logger.error("Load worker failed", t);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid worker argument: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static String require(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing worker argument: " + key);
+        }
+        return value;
+    }
+
+    private static LoadRequest instantiate(String className) throws ReflectiveOperationException {
+        Class<?> type = Class.forName(className);
+        if (!LoadRequest.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(className + " does not implement " + LoadRequest.class.getName());
+        }
+        return (LoadRequest) type.getDeclaredConstructor().newInstance();
+    }
+}
@@ -0,0 +1,102 @@
+package com.restassured.framework.metrics;
+
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Metrics key: HTTP method, endpoint template and status class (2xx, 4xx, ... or ERR)
+ */
+public class EndpointKey implements Comparable<EndpointKey> {
+    public static final String ERROR_CLASS = "ERR";
+    private static final Pattern ID_SEGMENT = Pattern.compile(
+            "\\d+|[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+    private final String method;
+    private final String template;
+    private final String statusClass;
+
+    public EndpointKey(String method, String template, String statusClass) {
+        this.method = method.toUpperCase(Locale.ROOT);
+        this.template = template;
+        this.statusClass = statusClass;
+    }
+
+    public static EndpointKey of(String method, String endpoint, int statusCode) {
+        return new EndpointKey(method, templateOf(endpoint), statusClass(statusCode));
+    }
+
+    public static EndpointKey error(String method, String endpoint) {
+        return new EndpointKey(method, templateOf(endpoint), ERROR_CLASS);
+    }
+
+    /**
+     * Endpoint template used as a metrics key: query string removed and literal ids
+     * (numbers, UUIDs) replaced by {id}, so /users/1 and /users/2 share one series
+     */
+    public static String templateOf(String endpoint) {
+        int query = endpoint.indexOf('?');
+        String path = query >= 0 ? endpoint.substring(0, query) : endpoint;
+        StringBuilder template = new StringBuilder();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(ID_SEGMENT.matcher(segment).matches() ? "{id}" : segment);
+        }
+        return template.length() == 0 ? "/" : template.toString();
+    }
+
+    public static String statusClass(int statusCode) {
+        return (statusCode / 100) + "xx";
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public String getStatusClass() {
+        return statusClass;
+    }
+
+    /**
+     * Method and template, without the status class
+     */
+    public String getEndpoint() {
+        return method + " " + template;
+    }
+
+    @Override
+    public int compareTo(EndpointKey other) {
+        int result = template.compareTo(other.template);
+        if (result == 0) {
+            result = method.compareTo(other.method);
+        }
+        return result != 0 ? result : statusClass.compareTo(other.statusClass);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EndpointKey)) {
+            return false;
+        }
+        EndpointKey that = (EndpointKey) o;
+        return method.equals(that.method) && template.equals(that.template) && statusClass.equals(that.statusClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, template, statusClass);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + template + " " + statusClass;
+    }
+}
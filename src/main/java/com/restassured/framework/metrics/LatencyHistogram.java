@@ -0,0 +1,267 @@
+package com.restassured.framework.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free, mergeable latency histogram in the style of HdrHistogram.
+ * Values (microseconds by convention in this framework) are counted in
+ * log-linear buckets: exact below 128, then 64 sub-buckets per power of
+ * two, which bounds the relative error of any reported value to 1/64.
+ * Recording is a couple of atomic increments, so many threads can record
+ * into one histogram; histograms from threads, classes or processes can be
+ * merged without losing precision.
+ */
+public class LatencyHistogram {
+    private static final int LINEAR_LIMIT = 128;
+    private static final int SUB_BUCKETS = 64;
+    // Values up to 2^40 us (~12 days) are tracked; larger ones are clamped
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKABLE = (1L << MAX_EXPONENT) - 1;
+    static final int BUCKET_COUNT = LINEAR_LIMIT + (MAX_EXPONENT - 7) * SUB_BUCKETS;
+    private static final String ENCODING_VERSION = "H1";
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    public void recordValue(long value) {
+        long clamped = Math.min(Math.max(value, 0), MAX_TRACKABLE);
+        counts.incrementAndGet(indexFor(clamped));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(clamped);
+        min.accumulateAndGet(clamped, Math::min);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    /**
+     * Record a duration measured with System.nanoTime, converted to microseconds
+     */
+    public void recordNanos(long nanos) {
+        recordValue(nanos / 1000);
+    }
+
+    /**
+     * Add all counts of another histogram to this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalSum.addAndGet(other.totalSum.get());
+        if (other.totalCount.get() > 0) {
+            min.accumulateAndGet(other.min.get(), Math::min);
+            max.accumulateAndGet(other.max.get(), Math::max);
+        }
+    }
+
+    /**
+     * Point-in-time copy, safe to read while this histogram keeps recording
+     */
+    public LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Histogram of the values recorded since an earlier copy of this histogram was taken.
+     * Min and max are estimated from the lowest and highest non-empty buckets.
+     */
+    public LatencyHistogram minus(LatencyHistogram earlier) {
+        LatencyHistogram delta = new LatencyHistogram();
+        long count = 0;
+        int lowest = -1;
+        int highest = -1;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long bucket = counts.get(i) - earlier.counts.get(i);
+            if (bucket > 0) {
+                delta.counts.set(i, bucket);
+                count += bucket;
+                lowest = lowest < 0 ? i : lowest;
+                highest = i;
+            }
+        }
+        delta.totalCount.set(count);
+        delta.totalSum.set(Math.max(0, totalSum.get() - earlier.totalSum.get()));
+        if (count > 0) {
+            delta.min.set(lowestEquivalentValue(lowest));
+            delta.max.set(Math.min(highestEquivalentValue(highest), getMaxValue()));
+        }
+        return delta;
+    }
+
+    /**
+     * Compact text form holding every non-empty bucket, so a histogram can be persisted
+     * or shipped between processes and decoded without losing precision
+     */
+    public String encode() {
+        StringBuilder encoded = new StringBuilder(ENCODING_VERSION).append(';')
+                .append(totalCount.get()).append(';').append(totalSum.get()).append(';')
+                .append(getMinValue()).append(';').append(max.get()).append(';');
+        boolean first = true;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count != 0) {
+                encoded.append(first ? "" : ",").append(i).append(':').append(count);
+                first = false;
+            }
+        }
+        return encoded.toString();
+    }
+
+    public static LatencyHistogram decode(String encoded) {
+        String[] fields = encoded.trim().split(";", -1);
+        if (fields.length != 6 || !ENCODING_VERSION.equals(fields[0])) {
+            throw new IllegalArgumentException("Unsupported histogram encoding: " + abbreviate(encoded));
+        }
+        try {
+            LatencyHistogram histogram = new LatencyHistogram();
+            long count = Long.parseLong(fields[1]);
+            histogram.totalCount.set(count);
+            histogram.totalSum.set(Long.parseLong(fields[2]));
+            if (count > 0) {
+                histogram.min.set(Long.parseLong(fields[3]));
+            }
+            histogram.max.set(Long.parseLong(fields[4]));
+            if (!fields[5].isEmpty()) {
+                for (String bucket : fields[5].split(",")) {
+                    int separator = bucket.indexOf(':');
+                    histogram.counts.set(Integer.parseInt(bucket.substring(0, separator)),
+                            Long.parseLong(bucket.substring(separator + 1)));
+                }
+            }
+            return histogram;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Corrupt histogram encoding: " + abbreviate(encoded), e);
+        }
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() > 64 ? text.substring(0, 64) + "..." : text;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalSum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    public long getTotalCount() {
+        return totalCount.get();
+    }
+
+    public long getMinValue() {
+        return totalCount.get() == 0 ? 0 : min.get();
+    }
+
+    public long getMaxValue() {
+        return max.get();
+    }
+
+    public long getTotalSum() {
+        return totalSum.get();
+    }
+
+    /**
+     * Number of values certainly at or below the given value: a bucket that also holds larger
+     * values is left out, so the count is exact at bucket edges and errs low within one bucket
+     */
+    public long getCountAtOrBelow(long value) {
+        if (value < 0) {
+            return 0;
+        }
+        int index = indexFor(Math.min(value, MAX_TRACKABLE));
+        int last = highestEquivalentValue(index) <= value ? index : index - 1;
+        long count = 0;
+        for (int i = 0; i <= last; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Value at the given percentile (0-100): the highest value equivalent to the bucket holding it
+     */
+    public long getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        double clamped = Math.min(Math.max(percentile, 0), 100);
+        long target = Math.max(1, (long) Math.ceil(clamped / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), getMaxValue());
+            }
+        }
+        return getMaxValue();
+    }
+
+    /**
+     * Count recorded in each bucket, for exporters and statistical comparisons
+     */
+    public long getCountAtIndex(int index) {
+        return counts.get(index);
+    }
+
+    public static int bucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    static int indexFor(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - 6)) - SUB_BUCKETS;
+        return LINEAR_LIMIT + (exponent - 7) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Smallest value that maps to the bucket
+     */
+    public static long lowestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int exponent = 7 + (index - LINEAR_LIMIT) / SUB_BUCKETS;
+        long subBucket = SUB_BUCKETS + (index - LINEAR_LIMIT) % SUB_BUCKETS;
+        return subBucket << (exponent - 6);
+    }
+
+    /**
+     * Largest value that maps to the bucket
+     */
+    public static long highestEquivalentValue(int index) {
+        return index + 1 < BUCKET_COUNT ? lowestEquivalentValue(index + 1) - 1 : MAX_TRACKABLE;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram{count=%d, p50=%d, p99=%d, max=%d}", getTotalCount(),
+                getValueAtPercentile(50), getValueAtPercentile(99), getMaxValue());
+    }
+}
@@ -0,0 +1,173 @@
+package com.restassured.framework.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide latency histograms per {@link EndpointKey}, fed by RestApiClient.
+ * Values are recorded in microseconds. A thread can also set a scoped registry,
+ * e.g. one per test class, that its requests are recorded into as well.
+ */
+public class LatencyRegistry {
+    private static final LatencyRegistry instance = new LatencyRegistry();
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 99, 99.9};
+    private final Map<EndpointKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<EndpointKey, PhaseStats> phases = new ConcurrentHashMap<>();
+    private final Map<EndpointKey, Map<String, LongAdder>> errors = new ConcurrentHashMap<>();
+    private static final ThreadLocal<LatencyRegistry> scope = new ThreadLocal<>();
+
+    public static LatencyRegistry getInstance() {
+        return instance;
+    }
+
+    /**
+     * Also record the current thread's requests into the given registry, or stop when null
+     */
+    public static void setScope(LatencyRegistry registry) {
+        if (registry == null) {
+            scope.remove();
+        } else {
+            scope.set(registry);
+        }
+    }
+
+    /**
+     * Scoped registry of the current thread, or null when requests only go to the process-wide one
+     */
+    public static LatencyRegistry getScope() {
+        return scope.get();
+    }
+
+    public void record(EndpointKey key, long nanos) {
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+    }
+
+    /**
+     * Count a request that failed without a response, by the type of the underlying exception
+     */
+    public void recordError(EndpointKey key, String cause) {
+        errors.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(cause, c -> new LongAdder()).increment();
+    }
+
+    /**
+     * Sorted error counts per key and cause
+     */
+    public Map<EndpointKey, Map<String, Long>> errorSnapshot() {
+        Map<EndpointKey, Map<String, Long>> copy = new TreeMap<>();
+        errors.forEach((key, causes) -> {
+            Map<String, Long> counts = new TreeMap<>();
+            causes.forEach((cause, count) -> counts.put(cause, count.sum()));
+            copy.put(key, counts);
+        });
+        return copy;
+    }
+
+    /**
+     * Record where the time of one request went
+     */
+    public void recordPhases(EndpointKey key, PhaseTimings timings) {
+        phases.computeIfAbsent(key, k -> new PhaseStats()).record(timings);
+    }
+
+    /**
+     * Live phase statistics for a key, or null if nothing was recorded for it
+     */
+    public PhaseStats getPhases(EndpointKey key) {
+        return phases.get(key);
+    }
+
+    /**
+     * Sorted point-in-time copies of all phase statistics
+     */
+    public Map<EndpointKey, PhaseStats> phaseSnapshot() {
+        Map<EndpointKey, PhaseStats> copy = new TreeMap<>();
+        phases.forEach((key, stats) -> copy.put(key, stats.copy()));
+        return copy;
+    }
+
+    /**
+     * Live histogram for a key, or null if nothing was recorded for it
+     */
+    public LatencyHistogram get(EndpointKey key) {
+        return histograms.get(key);
+    }
+
+    /**
+     * Sorted point-in-time copies of all histograms
+     */
+    public Map<EndpointKey, LatencyHistogram> snapshot() {
+        Map<EndpointKey, LatencyHistogram> copy = new TreeMap<>();
+        histograms.forEach((key, histogram) -> copy.put(key, histogram.copy()));
+        return copy;
+    }
+
+    public void reset() {
+        histograms.clear();
+        phases.clear();
+        errors.clear();
+    }
+
+    /**
+     * Table rows (header first) of count and p50/p90/p99/p99.9/max in milliseconds per key
+     */
+    public String[][] summaryTable() {
+        return summaryTable(snapshot());
+    }
+
+    public static String[][] summaryTable(Map<EndpointKey, LatencyHistogram> histograms) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Endpoint", "Status", "Count", "p50 (ms)", "p90 (ms)", "p99 (ms)", "p99.9 (ms)", "max (ms)"});
+        histograms.forEach((key, histogram) -> {
+            String[] row = new String[8];
+            row[0] = key.getEndpoint();
+            row[1] = key.getStatusClass();
+            row[2] = String.valueOf(histogram.getTotalCount());
+            for (int i = 0; i < SUMMARY_PERCENTILES.length; i++) {
+                row[3 + i] = formatMillis(histogram.getValueAtPercentile(SUMMARY_PERCENTILES[i]));
+            }
+            row[7] = formatMillis(histogram.getMaxValue());
+            rows.add(row);
+        });
+        return rows.toArray(new String[0][]);
+    }
+
+    /**
+     * Table rows (header first) of connection reuse and p50/p99 per request phase in milliseconds per key
+     */
+    public String[][] phaseTable() {
+        List<String[]> rows = new ArrayList<>();
+        List<String> header = new ArrayList<>();
+        header.add("Endpoint");
+        header.add("Status");
+        header.add("Requests");
+        header.add("New connections");
+        for (RequestPhase phase : RequestPhase.values()) {
+            header.add(phase.getLabel() + " p50 (ms)");
+            header.add(phase.getLabel() + " p99 (ms)");
+        }
+        rows.add(header.toArray(new String[0]));
+        phaseSnapshot().forEach((key, stats) -> {
+            List<String> row = new ArrayList<>();
+            row.add(key.getEndpoint());
+            row.add(key.getStatusClass());
+            row.add(String.valueOf(stats.getRequests()));
+            row.add(String.valueOf(stats.getNewConnections()));
+            for (RequestPhase phase : RequestPhase.values()) {
+                LatencyHistogram histogram = stats.get(phase);
+                row.add(histogram.getTotalCount() > 0 ? formatMillis(histogram.getValueAtPercentile(50)) : "-");
+                row.add(histogram.getTotalCount() > 0 ? formatMillis(histogram.getValueAtPercentile(99)) : "-");
+            }
+            rows.add(row.toArray(new String[0]));
+        });
+        return rows.toArray(new String[0][]);
+    }
+
+    private static String formatMillis(long micros) {
+        return String.format("%.2f", micros / 1000.0);
+    }
+}
@@ -0,0 +1,34 @@
+package com.restassured.framework.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency SLA for one endpoint, evaluated over the requests made while the
+ * annotated test class ran, e.g.
+ * {@code @LatencySla(method = "GET", endpoint = "/users/{id}", percentile = 99, maxMs = 150)}
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Repeatable(LatencySlas.class)
+public @interface LatencySla {
+
+    String method();
+
+    /**
+     * Endpoint template as recorded by RestApiClient, ids folded into {id}
+     */
+    String endpoint();
+
+    double percentile();
+
+    double maxMs();
+
+    /**
+     * Fewer samples than this fails the SLA instead of passing it vacuously
+     */
+    int minSamples() default 1;
+}
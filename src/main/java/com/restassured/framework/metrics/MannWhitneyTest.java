@@ -0,0 +1,128 @@
+package com.restassured.framework.metrics;
+
+/**
+ * Mann-Whitney U test on two latency histograms. Each bucket is treated as a
+ * group of tied values, so the test runs in one pass over the buckets no
+ * matter how many samples were recorded, and makes no assumption about the
+ * shape of either distribution.
+ */
+public class MannWhitneyTest {
+
+    private MannWhitneyTest() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Test whether values in current tend to be larger than in baseline
+     */
+    public static Result test(LatencyHistogram baseline, LatencyHistogram current) {
+        int buckets = LatencyHistogram.bucketCount();
+        long nx = 0;
+        long ny = 0;
+        for (int i = 0; i < buckets; i++) {
+            nx += baseline.getCountAtIndex(i);
+            ny += current.getCountAtIndex(i);
+        }
+        if (nx == 0 || ny == 0) {
+            return new Result(nx, ny, 0, 0, 1, 1);
+        }
+        double n = nx + ny;
+        double rankSumCurrent = 0;
+        double tieCorrection = 0;
+        long before = 0;
+        for (int i = 0; i < buckets; i++) {
+            long x = baseline.getCountAtIndex(i);
+            long y = current.getCountAtIndex(i);
+            long tied = x + y;
+            if (tied == 0) {
+                continue;
+            }
+            // Every value in the bucket gets the average of the ranks the bucket spans
+            double midRank = before + (tied + 1) / 2.0;
+            rankSumCurrent += y * midRank;
+            tieCorrection += (double) tied * tied * tied - tied;
+            before += tied;
+        }
+        double u = rankSumCurrent - ny * (ny + 1) / 2.0;
+        double mean = nx * (double) ny / 2.0;
+        double variance = nx * (double) ny / 12.0 * ((n + 1) - tieCorrection / (n * (n - 1)));
+        if (variance <= 0) {
+            // All values tied: no evidence either way
+            return new Result(nx, ny, u, 0, 1, 1);
+        }
+        double sd = Math.sqrt(variance);
+        double zGreater = (u - mean - 0.5) / sd;
+        double zLess = (u - mean + 0.5) / sd;
+        return new Result(nx, ny, u, (u - mean) / sd, 1 - normalCdf(zGreater), normalCdf(zLess));
+    }
+
+    /**
+     * Standard normal CDF (Abramowitz and Stegun 26.2.17, error below 7.5e-8)
+     */
+    static double normalCdf(double z) {
+        if (z < 0) {
+            return 1 - normalCdf(-z);
+        }
+        double t = 1 / (1 + 0.2316419 * z);
+        double poly = t * (0.319381530 + t * (-0.356563782 + t * (1.781477937 + t * (-1.821255978 + t * 1.330274429))));
+        return 1 - Math.exp(-z * z / 2) / Math.sqrt(2 * Math.PI) * poly;
+    }
+
+    /**
+     * Outcome of the test
+     */
+    public static class Result {
+        private final long baselineCount;
+        private final long currentCount;
+        private final double u;
+        private final double z;
+        private final double pGreater;
+        private final double pLess;
+
+        Result(long baselineCount, long currentCount, double u, double z, double pGreater, double pLess) {
+            this.baselineCount = baselineCount;
+            this.currentCount = currentCount;
+            this.u = u;
+            this.z = z;
+            this.pGreater = pGreater;
+            this.pLess = pLess;
+        }
+
+        public long getBaselineCount() {
+            return baselineCount;
+        }
+
+        public long getCurrentCount() {
+            return currentCount;
+        }
+
+        public double getU() {
+            return u;
+        }
+
+        public double getZ() {
+            return z;
+        }
+
+        /**
+         * One-sided p-value for current being slower than baseline
+         */
+        public double getPValueSlower() {
+            return pGreater;
+        }
+
+        /**
+         * One-sided p-value for current being faster than baseline
+         */
+        public double getPValueFaster() {
+            return pLess;
+        }
+
+        /**
+         * Probability that a current request is slower than a baseline one, ties counted as half
+         */
+        public double getProbabilityOfSuperiority() {
+            return baselineCount == 0 || currentCount == 0 ? 0.5 : u / ((double) baselineCount * currentCount);
+        }
+    }
+}
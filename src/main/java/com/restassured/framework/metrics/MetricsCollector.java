@@ -0,0 +1,10 @@
+package com.restassured.framework.metrics;
+
+/**
+ * Source of metrics, asked to write its current values on every scrape
+ */
+@FunctionalInterface
+public interface MetricsCollector {
+
+    void collect(OpenMetricsWriter writer);
+}
@@ -0,0 +1,86 @@
+package com.restassured.framework.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide set of {@link MetricsCollector}s rendered together as one
+ * OpenMetrics exposition. The client metrics from {@link LatencyRegistry} are
+ * always included; components such as mock servers register while running.
+ */
+public class MetricsRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final MetricsRegistry instance = new MetricsRegistry();
+    private final List<MetricsCollector> collectors = new CopyOnWriteArrayList<>();
+
+    private MetricsRegistry() {
+        collectors.add(MetricsRegistry::collectClientMetrics);
+    }
+
+    public static MetricsRegistry getInstance() {
+        return instance;
+    }
+
+    public void register(MetricsCollector collector) {
+        collectors.add(collector);
+    }
+
+    public void unregister(MetricsCollector collector) {
+        collectors.remove(collector);
+    }
+
+    /**
+     * Current values of all collectors in OpenMetrics text format
+     */
+    public String scrape() {
+        OpenMetricsWriter writer = new OpenMetricsWriter();
+        for (MetricsCollector collector : collectors) {
+            try {
+                collector.collect(writer);
+            } catch (RuntimeException e) {
+                // One broken collector must not take the whole exposition down
+                logger.warn("Metrics collector {} failed", collector, e);
+            }
+        }
+        return writer.finish();
+    }
+
+    private static void collectClientMetrics(OpenMetricsWriter writer) {
+        LatencyRegistry registry = LatencyRegistry.getInstance();
+        Map<EndpointKey, LatencyHistogram> histograms = registry.snapshot();
+        writer.family("api_client_requests", "counter", "Requests made by RestApiClient; status ERR means no response");
+        writer.family("api_client_request_duration_seconds", "histogram", "Round-trip time of RestApiClient requests");
+        histograms.forEach((key, histogram) -> {
+            String[] labels = labels(key);
+            writer.sample("api_client_requests", "api_client_requests_total", histogram.getTotalCount(), labels);
+            writer.histogram("api_client_request_duration_seconds", histogram, labels);
+        });
+
+        writer.family("api_client_errors", "counter", "Requests that failed with an ApiException, by cause");
+        registry.errorSnapshot().forEach((key, causes) -> causes.forEach((cause, count) ->
+                writer.sample("api_client_errors", "api_client_errors_total", count,
+                        "method", key.getMethod(), "endpoint", key.getTemplate(), "cause", cause)));
+
+        writer.family("api_client_connections_opened", "counter", "Requests that had to open a new connection");
+        writer.family("api_client_request_phase_seconds", "histogram",
+                "Time per request phase; dns, connect and tls only for new connections");
+        registry.phaseSnapshot().forEach((key, stats) -> {
+            String[] labels = labels(key);
+            writer.sample("api_client_connections_opened", "api_client_connections_opened_total", stats.getNewConnections(), labels);
+            for (RequestPhase phase : RequestPhase.values()) {
+                writer.histogram("api_client_request_phase_seconds", stats.get(phase),
+                        "method", key.getMethod(), "endpoint", key.getTemplate(), "status", key.getStatusClass(),
+                        "phase", phase.name().toLowerCase(Locale.ROOT));
+            }
+        });
+    }
+
+    private static String[] labels(EndpointKey key) {
+        return new String[]{"method", key.getMethod(), "endpoint", key.getTemplate(), "status", key.getStatusClass()};
+    }
+}
@@ -0,0 +1,145 @@
+package com.restassured.framework.metrics;
+
+import com.restassured.framework.config.ConfigManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link MetricsRegistry} in OpenMetrics text format: rewritten to a
+ * file at a fixed interval and/or served at /metrics on a local HTTP port, so
+ * a long soak run can be scraped by a Prometheus-compatible collector.
+ */
+public class OpenMetricsExporter {
+    private static final Logger logger = LoggerFactory.getLogger(OpenMetricsExporter.class);
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+    private final MetricsRegistry registry;
+    private ScheduledExecutorService scheduler;
+    private Path exportFile;
+    private HttpServer server;
+
+    public OpenMetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Exporter started as configured by metrics.export.file and metrics.http.*, or null if neither is enabled
+     */
+    public static OpenMetricsExporter startFromConfig(ConfigManager config) {
+        String file = config.getProperty("metrics.export.file", "").trim();
+        boolean http = config.getBooleanProperty("metrics.http.enabled", false);
+        if (file.isEmpty() && !http) {
+            return null;
+        }
+        OpenMetricsExporter exporter = new OpenMetricsExporter(MetricsRegistry.getInstance());
+        if (!file.isEmpty()) {
+            exporter.startFileExport(Paths.get(file), config.getIntProperty("metrics.export.interval.ms", 10000));
+        }
+        if (http) {
+            exporter.startHttpEndpoint(config.getIntProperty("metrics.http.port", 9464));
+        }
+        return exporter;
+    }
+
+    /**
+     * Replace the file with the current exposition; readers never see a partial file
+     */
+    public void writeTo(Path file) {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.write(temp, registry.scrape().getBytes(StandardCharsets.UTF_8));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to export metrics to " + file, e);
+        }
+    }
+
+    public synchronized void startFileExport(Path file, long intervalMs) {
+        if (scheduler != null) {
+            throw new IllegalStateException("File export already running to " + exportFile);
+        }
+        exportFile = file;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-file-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                writeTo(file);
+            } catch (RuntimeException e) {
+                logger.warn("Periodic metrics export failed", e);
+            }
+        }, 0, intervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Exporting metrics to {} every {} ms", file, intervalMs);
+    }
+
+    /**
+     * Serve /metrics on localhost; port 0 picks a free port. Returns the bound port.
+     */
+    public synchronized int startHttpEndpoint(int port) {
+        if (server != null) {
+            throw new IllegalStateException("Metrics endpoint already running on port " + getHttpPort());
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to bind metrics endpoint on port " + port, e);
+        }
+        server.createContext("/metrics", this::handleScrape);
+        server.start();
+        logger.info("Metrics endpoint: http://localhost:{}/metrics", getHttpPort());
+        return getHttpPort();
+    }
+
+    public synchronized int getHttpPort() {
+        return server != null ? server.getAddress().getPort() : -1;
+    }
+
+    /**
+     * Stop the endpoint and the periodic export, writing the file one last time
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+            writeTo(exportFile);
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    private void handleScrape(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = registry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.restassured.framework.metrics;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Builds an OpenMetrics text exposition. Samples are grouped under their
+ * metric family whatever order collectors emit them in, and the exposition
+ * ends with the mandatory "# EOF" line.
+ */
+public class OpenMetricsWriter {
+    private static final double[] DURATION_BUCKETS_SECONDS =
+            {0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private final Map<String, StringBuilder> families = new LinkedHashMap<>();
+
+    /**
+     * Declare a metric family; declaring it again (e.g. from another server instance) is a no-op
+     */
+    public OpenMetricsWriter family(String name, String type, String help) {
+        families.computeIfAbsent(name, n -> new StringBuilder()
+                .append("# TYPE ").append(n).append(' ').append(type).append('\n')
+                .append("# HELP ").append(n).append(' ').append(escapeHelp(help)).append('\n'));
+        return this;
+    }
+
+    /**
+     * Add a sample to a declared family; labels are given as name, value pairs
+     */
+    public OpenMetricsWriter sample(String family, String sampleName, double value, String... labels) {
+        StringBuilder lines = families.get(family);
+        if (lines == null) {
+            throw new IllegalStateException("Metric family not declared: " + family);
+        }
+        lines.append(sampleName);
+        if (labels.length > 0) {
+            lines.append('{');
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                lines.append(i == 0 ? "" : ",").append(labels[i]).append("=\"").append(escapeLabel(labels[i + 1])).append('"');
+            }
+            lines.append('}');
+        }
+        lines.append(' ').append(formatValue(value)).append('\n');
+        return this;
+    }
+
+    /**
+     * Add the bucket, count and sum samples of a microsecond histogram to a histogram family in seconds
+     */
+    public OpenMetricsWriter histogram(String family, LatencyHistogram histogram, String... labels) {
+        String[] bucketLabels = new String[labels.length + 2];
+        System.arraycopy(labels, 0, bucketLabels, 0, labels.length);
+        bucketLabels[labels.length] = "le";
+        for (double bound : DURATION_BUCKETS_SECONDS) {
+            bucketLabels[labels.length + 1] = formatBound(bound);
+            sample(family, family + "_bucket", histogram.getCountAtOrBelow(Math.round(bound * 1_000_000)), bucketLabels);
+        }
+        bucketLabels[labels.length + 1] = "+Inf";
+        sample(family, family + "_bucket", histogram.getTotalCount(), bucketLabels);
+        sample(family, family + "_count", histogram.getTotalCount(), labels);
+        sample(family, family + "_sum", histogram.getTotalSum() / 1_000_000.0, labels);
+        return this;
+    }
+
+    public String finish() {
+        StringBuilder text = new StringBuilder();
+        families.values().forEach(text::append);
+        return text.append("# EOF\n").toString();
+    }
+
+    private static String formatValue(double value) {
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            return String.valueOf((long) value);
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Canonical float form for le labels: always with a decimal point and never in exponent notation
+     */
+    private static String formatBound(double bound) {
+        String plain = BigDecimal.valueOf(bound).stripTrailingZeros().toPlainString();
+        return plain.indexOf('.') < 0 ? plain + ".0" : plain;
+    }
+
+    private static String escapeLabel(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String value) {
+        return value.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,128 @@
+package com.restassured.framework.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency and throughput of one run per endpoint, persisted as a JSON file per
+ * environment and meant to be committed. Full histograms are stored so later
+ * runs can be compared against the whole distribution, not just a few percentiles.
+ */
+public class PerformanceBaseline {
+    private static final int FORMAT_VERSION = 1;
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final String environment;
+    private final int revision;
+    private final String recordedAt;
+    private final double durationSeconds;
+    private final Map<EndpointKey, LatencyHistogram> histograms;
+
+    public PerformanceBaseline(String environment, int revision, String recordedAt, double durationSeconds,
+                               Map<EndpointKey, LatencyHistogram> histograms) {
+        this.environment = environment;
+        this.revision = revision;
+        this.recordedAt = recordedAt;
+        this.durationSeconds = durationSeconds;
+        this.histograms = Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Baseline from the current run, one revision above the previous baseline if any
+     */
+    public static PerformanceBaseline of(String environment, Map<EndpointKey, LatencyHistogram> histograms,
+                                         double durationSeconds, PerformanceBaseline previous) {
+        int revision = previous != null ? previous.revision + 1 : 1;
+        return new PerformanceBaseline(environment, revision, Instant.now().toString(), durationSeconds, histograms);
+    }
+
+    /**
+     * Load a baseline, or null if the file does not exist
+     */
+    public static PerformanceBaseline load(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(file.toFile());
+            int formatVersion = root.path("formatVersion").asInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported baseline format " + formatVersion + " in " + file);
+            }
+            Map<EndpointKey, LatencyHistogram> histograms = new TreeMap<>();
+            for (JsonNode endpoint : root.path("endpoints")) {
+                EndpointKey key = new EndpointKey(endpoint.path("method").asText(), endpoint.path("endpoint").asText(),
+                        endpoint.path("status").asText());
+                histograms.put(key, LatencyHistogram.decode(endpoint.path("histogram").asText()));
+            }
+            return new PerformanceBaseline(root.path("environment").asText(), root.path("revision").asInt(),
+                    root.path("recordedAt").asText(), root.path("durationSeconds").asDouble(), histograms);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read performance baseline: " + file, e);
+        }
+    }
+
+    public void save(Path file) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("formatVersion", FORMAT_VERSION);
+        root.put("environment", environment);
+        root.put("revision", revision);
+        root.put("recordedAt", recordedAt);
+        root.put("durationSeconds", durationSeconds);
+        ArrayNode endpoints = root.putArray("endpoints");
+        histograms.forEach((key, histogram) -> {
+            ObjectNode endpoint = endpoints.addObject();
+            endpoint.put("method", key.getMethod());
+            endpoint.put("endpoint", key.getTemplate());
+            endpoint.put("status", key.getStatusClass());
+            // Summary fields are for reviewers reading the diff; only the histogram is used for comparison
+            endpoint.put("count", histogram.getTotalCount());
+            endpoint.put("throughputPerSecond", throughput(histogram, durationSeconds));
+            endpoint.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            endpoint.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            endpoint.put("histogram", histogram.encode());
+        });
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            objectMapper.writeValue(file.toFile(), root);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write performance baseline: " + file, e);
+        }
+    }
+
+    static double throughput(LatencyHistogram histogram, double durationSeconds) {
+        return durationSeconds > 0 ? histogram.getTotalCount() / durationSeconds : 0;
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    public String getRecordedAt() {
+        return recordedAt;
+    }
+
+    public double getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public Map<EndpointKey, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+}
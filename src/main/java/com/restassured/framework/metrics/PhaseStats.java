@@ -0,0 +1,63 @@
+package com.restassured.framework.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-endpoint histograms of each request phase. Connection setup phases are
+ * only recorded for requests that opened a connection, so their percentiles
+ * describe the cost of a new connection and the new-connection count tells
+ * how often it was paid.
+ */
+public class PhaseStats {
+    private final LatencyHistogram[] histograms = new LatencyHistogram[RequestPhase.values().length];
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong newConnections = new AtomicLong();
+
+    public PhaseStats() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    public void record(PhaseTimings timings) {
+        requests.incrementAndGet();
+        if (!timings.isConnectionReused()) {
+            newConnections.incrementAndGet();
+        }
+        for (RequestPhase phase : RequestPhase.values()) {
+            if (!phase.isConnectionSetup() || !timings.isConnectionReused()) {
+                histograms[phase.ordinal()].recordNanos(timings.getNanos(phase));
+            }
+        }
+    }
+
+    public LatencyHistogram get(RequestPhase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getNewConnections() {
+        return newConnections.get();
+    }
+
+    /**
+     * Share of requests that went over a reused connection, 0..1
+     */
+    public double getReuseRatio() {
+        long total = requests.get();
+        return total == 0 ? 0 : (total - newConnections.get()) / (double) total;
+    }
+
+    public PhaseStats copy() {
+        PhaseStats copy = new PhaseStats();
+        for (int i = 0; i < histograms.length; i++) {
+            copy.histograms[i].add(histograms[i]);
+        }
+        copy.requests.set(requests.get());
+        copy.newConnections.set(newConnections.get());
+        return copy;
+    }
+}
@@ -0,0 +1,94 @@
+package com.restassured.framework.metrics;
+
+/**
+ * Where the time of one request went. Phases are summed over every connection
+ * and exchange of the request, so redirects and retries are included; the part
+ * of the total not covered by any phase is client-side overhead such as
+ * building the request and parsing the response.
+ */
+public class PhaseTimings {
+    private final long[] nanos;
+    private final long totalNanos;
+    private final boolean connectionReused;
+
+    public PhaseTimings(long[] nanos, long totalNanos, boolean connectionReused) {
+        this.nanos = nanos.clone();
+        this.totalNanos = totalNanos;
+        this.connectionReused = connectionReused;
+    }
+
+    public long getNanos(RequestPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    public double getMillis(RequestPhase phase) {
+        return getNanos(phase) / 1_000_000.0;
+    }
+
+    public double getDnsMs() {
+        return getMillis(RequestPhase.DNS);
+    }
+
+    public double getConnectMs() {
+        return getMillis(RequestPhase.CONNECT);
+    }
+
+    public double getTlsMs() {
+        return getMillis(RequestPhase.TLS);
+    }
+
+    /**
+     * Server think time: request written until response headers arrived
+     */
+    public double getWaitMs() {
+        return getMillis(RequestPhase.WAIT);
+    }
+
+    public double getTransferMs() {
+        return getMillis(RequestPhase.TRANSFER);
+    }
+
+    /**
+     * Time to first byte: connection setup, send and wait
+     */
+    public double getTimeToFirstByteMs() {
+        return (getNanos(RequestPhase.DNS) + getNanos(RequestPhase.CONNECT) + getNanos(RequestPhase.TLS)
+                + getNanos(RequestPhase.SEND) + getNanos(RequestPhase.WAIT)) / 1_000_000.0;
+    }
+
+    public double getTotalMs() {
+        return totalNanos / 1_000_000.0;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Time spent in the client outside the network phases
+     */
+    public double getClientOverheadMs() {
+        long phases = 0;
+        for (long value : nanos) {
+            phases += value;
+        }
+        return Math.max(0, totalNanos - phases) / 1_000_000.0;
+    }
+
+    /**
+     * True when the request went over an already open connection
+     */
+    public boolean isConnectionReused() {
+        return connectionReused;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (RequestPhase phase : RequestPhase.values()) {
+            text.append(phase.getLabel()).append('=').append(String.format("%.2f", getMillis(phase))).append("ms, ");
+        }
+        return text.append("total=").append(String.format("%.2f", getTotalMs())).append("ms")
+                .append(connectionReused ? ", reused connection" : ", new connection").toString();
+    }
+}
@@ -0,0 +1,183 @@
+package com.restassured.framework.metrics;
+
+import com.restassured.framework.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the latencies of a run with a {@link PerformanceBaseline}. An endpoint
+ * regresses only when the Mann-Whitney test finds it significantly slower and
+ * its median moved by at least the configured share, so neither noise in small
+ * samples nor negligible shifts in large ones fail the build.
+ */
+public class RegressionGate {
+    private final double alpha;
+    private final double minShiftPercent;
+    private final long minSamples;
+
+    public RegressionGate(double alpha, double minShiftPercent, long minSamples) {
+        this.alpha = alpha;
+        this.minShiftPercent = minShiftPercent;
+        this.minSamples = minSamples;
+    }
+
+    public static RegressionGate fromConfig(ConfigManager config) {
+        return new RegressionGate(
+                Double.parseDouble(config.getProperty("perf.gate.alpha", "0.01")),
+                Double.parseDouble(config.getProperty("perf.gate.min.shift.percent", "10")),
+                config.getIntProperty("perf.gate.min.samples", 20));
+    }
+
+    public List<Comparison> compare(PerformanceBaseline baseline, Map<EndpointKey, LatencyHistogram> current, double durationSeconds) {
+        Set<EndpointKey> keys = new TreeSet<>(baseline.getHistograms().keySet());
+        keys.addAll(current.keySet());
+        List<Comparison> comparisons = new ArrayList<>();
+        for (EndpointKey key : keys) {
+            LatencyHistogram before = baseline.getHistograms().get(key);
+            LatencyHistogram after = current.get(key);
+            if (before == null || after == null) {
+                comparisons.add(new Comparison(key, before, after, null, before == null ? Verdict.NEW : Verdict.MISSING,
+                        baseline.getDurationSeconds(), durationSeconds));
+                continue;
+            }
+            MannWhitneyTest.Result test = MannWhitneyTest.test(before, after);
+            comparisons.add(new Comparison(key, before, after, test, verdict(before, after, test),
+                    baseline.getDurationSeconds(), durationSeconds));
+        }
+        return comparisons;
+    }
+
+    private Verdict verdict(LatencyHistogram before, LatencyHistogram after, MannWhitneyTest.Result test) {
+        if (before.getTotalCount() < minSamples || after.getTotalCount() < minSamples) {
+            return Verdict.INSUFFICIENT_DATA;
+        }
+        double shift = medianShiftPercent(before, after);
+        if (test.getPValueSlower() < alpha && shift >= minShiftPercent) {
+            return Verdict.REGRESSION;
+        }
+        if (test.getPValueFaster() < alpha && shift <= -minShiftPercent) {
+            return Verdict.IMPROVEMENT;
+        }
+        return Verdict.UNCHANGED;
+    }
+
+    static double medianShiftPercent(LatencyHistogram before, LatencyHistogram after) {
+        long baselineMedian = Math.max(1, before.getValueAtPercentile(50));
+        return (after.getValueAtPercentile(50) - baselineMedian) * 100.0 / baselineMedian;
+    }
+
+    public static List<Comparison> regressions(List<Comparison> comparisons) {
+        return comparisons.stream().filter(c -> c.getVerdict() == Verdict.REGRESSION).collect(Collectors.toList());
+    }
+
+    /**
+     * Table rows (header first) for the report
+     */
+    public static String[][] reportTable(List<Comparison> comparisons) {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Method", "Endpoint", "Status", "Samples (base/now)", "p50 ms (base/now)", "p99 ms (base/now)",
+                "Throughput/s (base/now)", "p-value", "Verdict"});
+        for (Comparison c : comparisons) {
+            rows.add(new String[]{c.getKey().getMethod(), c.getKey().getTemplate(), c.getKey().getStatusClass(),
+                    pair(c.baseline != null ? String.valueOf(c.baseline.getTotalCount()) : null,
+                            c.current != null ? String.valueOf(c.current.getTotalCount()) : null),
+                    pair(percentileMs(c.baseline, 50), percentileMs(c.current, 50)),
+                    pair(percentileMs(c.baseline, 99), percentileMs(c.current, 99)),
+                    pair(c.baseline != null ? String.format("%.2f", c.getBaselineThroughput()) : null,
+                            c.current != null ? String.format("%.2f", c.getCurrentThroughput()) : null),
+                    c.test != null ? String.format("%.4f", Math.min(c.test.getPValueSlower(), c.test.getPValueFaster())) : "-",
+                    c.getVerdict().name()});
+        }
+        return rows.toArray(new String[0][]);
+    }
+
+    /**
+     * Failure message listing every regressed endpoint
+     */
+    public static String regressionMessage(String environment, List<Comparison> regressions) {
+        StringBuilder message = new StringBuilder("Performance regression against the ").append(environment).append(" baseline:");
+        for (Comparison regression : regressions) {
+            message.append(System.lineSeparator()).append("  ").append(regression);
+        }
+        return message.toString();
+    }
+
+    private static String percentileMs(LatencyHistogram histogram, double percentile) {
+        return histogram != null ? String.format("%.2f", histogram.getValueAtPercentile(percentile) / 1000.0) : null;
+    }
+
+    private static String pair(String before, String after) {
+        return (before != null ? before : "-") + " / " + (after != null ? after : "-");
+    }
+
+    public enum Verdict {
+        REGRESSION, IMPROVEMENT, UNCHANGED, INSUFFICIENT_DATA, NEW, MISSING
+    }
+
+    /**
+     * One endpoint compared against its baseline
+     */
+    public static class Comparison {
+        private final EndpointKey key;
+        private final LatencyHistogram baseline;
+        private final LatencyHistogram current;
+        private final MannWhitneyTest.Result test;
+        private final Verdict verdict;
+        private final double baselineSeconds;
+        private final double currentSeconds;
+
+        Comparison(EndpointKey key, LatencyHistogram baseline, LatencyHistogram current, MannWhitneyTest.Result test,
+                   Verdict verdict, double baselineSeconds, double currentSeconds) {
+            this.key = key;
+            this.baseline = baseline;
+            this.current = current;
+            this.test = test;
+            this.verdict = verdict;
+            this.baselineSeconds = baselineSeconds;
+            this.currentSeconds = currentSeconds;
+        }
+
+        public EndpointKey getKey() {
+            return key;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        /**
+         * Mann-Whitney result, or null when the endpoint is only in one of the runs
+         */
+        public MannWhitneyTest.Result getTest() {
+            return test;
+        }
+
+        public double getMedianShiftPercent() {
+            return baseline != null && current != null ? medianShiftPercent(baseline, current) : 0;
+        }
+
+        public double getBaselineThroughput() {
+            return baseline != null ? PerformanceBaseline.throughput(baseline, baselineSeconds) : 0;
+        }
+
+        public double getCurrentThroughput() {
+            return current != null ? PerformanceBaseline.throughput(current, currentSeconds) : 0;
+        }
+
+        @Override
+        public String toString() {
+            if (test == null) {
+                return key + ": " + verdict;
+            }
+            return String.format("%s: p50 %.2fms -> %.2fms (%+.1f%%), p99 %.2fms -> %.2fms, p=%.4f -> %s", key,
+                    baseline.getValueAtPercentile(50) / 1000.0, current.getValueAtPercentile(50) / 1000.0,
+                    getMedianShiftPercent(), baseline.getValueAtPercentile(99) / 1000.0,
+                    current.getValueAtPercentile(99) / 1000.0, test.getPValueSlower(), verdict);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.restassured.framework.metrics;
+
+/**
+ * Phases of one HTTP exchange, in the order they happen
+ */
+public enum RequestPhase {
+    /** Host name resolution, only when a new connection is opened */
+    DNS("DNS"),
+    /** TCP connect, only when a new connection is opened */
+    CONNECT("Connect"),
+    /** TLS handshake, only for new https connections */
+    TLS("TLS"),
+    /** Writing request line, headers and body */
+    SEND("Send"),
+    /** Request written until response headers arrive: server think time */
+    WAIT("Wait"),
+    /** Reading the response body to the end */
+    TRANSFER("Transfer");
+
+    private final String label;
+
+    RequestPhase(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Whether the phase only happens when the connection is not reused
+     */
+    public boolean isConnectionSetup() {
+        return this == DNS || this == CONNECT || this == TLS;
+    }
+}
@@ -0,0 +1,115 @@
+package com.restassured.framework.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates latency SLAs against recorded histograms
+ */
+public class SlaEvaluator {
+
+    private SlaEvaluator() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * SLAs declared with {@link LatencySla} on a test class
+     */
+    public static List<SlaRule> rulesFor(Class<?> testClass) {
+        List<SlaRule> rules = new ArrayList<>();
+        for (LatencySla sla : testClass.getAnnotationsByType(LatencySla.class)) {
+            rules.add(SlaRule.from(sla));
+        }
+        return rules;
+    }
+
+    public static List<Result> evaluate(List<SlaRule> rules, Map<EndpointKey, LatencyHistogram> histograms) {
+        List<Result> results = new ArrayList<>();
+        for (SlaRule rule : rules) {
+            // All status classes of the endpoint count towards its latency
+            LatencyHistogram merged = new LatencyHistogram();
+            histograms.forEach((key, histogram) -> {
+                if (rule.covers(key)) {
+                    merged.add(histogram);
+                }
+            });
+            double observedMs = merged.getValueAtPercentile(rule.getPercentile()) / 1000.0;
+            results.add(new Result(rule, merged.getTotalCount(), observedMs));
+        }
+        return results;
+    }
+
+    public static List<Result> breaches(List<Result> results) {
+        return results.stream().filter(result -> !result.isPassed()).collect(Collectors.toList());
+    }
+
+    /**
+     * Table rows (header first) for the report
+     */
+    public static String[][] reportTable(List<Result> results) {
+        String[][] rows = new String[results.size() + 1][];
+        rows[0] = new String[]{"SLA", "Samples", "Observed (ms)", "Result"};
+        for (int i = 0; i < results.size(); i++) {
+            Result result = results.get(i);
+            rows[i + 1] = new String[]{result.getRule().toString(), String.valueOf(result.getSamples()),
+                    String.format("%.2f", result.getObservedMs()), result.getOutcome()};
+        }
+        return rows;
+    }
+
+    /**
+     * Failure message listing every breached SLA
+     */
+    public static String breachMessage(String scope, List<Result> breaches) {
+        StringBuilder message = new StringBuilder("Latency SLA breached for ").append(scope).append(':');
+        for (Result breach : breaches) {
+            message.append(System.lineSeparator()).append("  ").append(breach);
+        }
+        return message.toString();
+    }
+
+    /**
+     * Outcome of one SLA
+     */
+    public static class Result {
+        private final SlaRule rule;
+        private final long samples;
+        private final double observedMs;
+
+        Result(SlaRule rule, long samples, double observedMs) {
+            this.rule = rule;
+            this.samples = samples;
+            this.observedMs = observedMs;
+        }
+
+        public SlaRule getRule() {
+            return rule;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        public double getObservedMs() {
+            return observedMs;
+        }
+
+        public boolean isPassed() {
+            return samples >= rule.getMinSamples() && observedMs < rule.getMaxMs();
+        }
+
+        public String getOutcome() {
+            if (samples < rule.getMinSamples()) {
+                return "FAIL (" + samples + " of " + rule.getMinSamples() + " required samples)";
+            }
+            return observedMs < rule.getMaxMs() ? "PASS" : "FAIL";
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: observed %.2fms over %d samples -> %s", rule, observedMs, samples, getOutcome());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.restassured.framework.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Latency SLA: the given percentile of an endpoint must stay below a limit
+ */
+public class SlaRule {
+    private static final Pattern RULE = Pattern.compile(
+            "(?i)\\s*([A-Z]+)\\s+(\\S+)\\s+p(\\d+(?:\\.\\d+)?)\\s*<\\s*(\\d+(?:\\.\\d+)?)\\s*(?:ms)?\\s*");
+    private final String method;
+    private final String endpoint;
+    private final double percentile;
+    private final double maxMs;
+    private final int minSamples;
+
+    public SlaRule(String method, String endpoint, double percentile, double maxMs, int minSamples) {
+        if (percentile <= 0 || percentile > 100 || maxMs <= 0) {
+            throw new IllegalArgumentException(String.format("Invalid SLA p%s < %sms", percentile, maxMs));
+        }
+        this.method = method.toUpperCase(Locale.ROOT);
+        this.endpoint = endpoint;
+        this.percentile = percentile;
+        this.maxMs = maxMs;
+        this.minSamples = minSamples;
+    }
+
+    public static SlaRule from(LatencySla sla) {
+        return new SlaRule(sla.method(), sla.endpoint(), sla.percentile(), sla.maxMs(), sla.minSamples());
+    }
+
+    /**
+     * Parse a rule such as "GET /users/{id} p99 < 150ms"
+     */
+    public static SlaRule parse(String rule) {
+        Matcher matcher = RULE.matcher(rule);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Invalid latency SLA '" + rule + "', expected e.g. 'GET /users/{id} p99 < 150ms'");
+        }
+        return new SlaRule(matcher.group(1), matcher.group(2), Double.parseDouble(matcher.group(3)),
+                Double.parseDouble(matcher.group(4)), 1);
+    }
+
+    /**
+     * Parse a ';'-separated list of rules; blank input yields no rules
+     */
+    public static List<SlaRule> parseAll(String rules) {
+        List<SlaRule> parsed = new ArrayList<>();
+        if (rules != null) {
+            for (String rule : rules.split(";")) {
+                if (!rule.trim().isEmpty()) {
+                    parsed.add(parse(rule));
+                }
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * Whether the rule covers a recorded key, regardless of status class
+     */
+    public boolean covers(EndpointKey key) {
+        return key.getMethod().equals(method) && key.getTemplate().equals(EndpointKey.templateOf(endpoint));
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public int getMinSamples() {
+        return minSamples;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s p%s < %sms", method, endpoint, formatNumber(percentile), formatNumber(maxMs));
+    }
+
+    private static String formatNumber(double value) {
+        return value == Math.rint(value) ? String.valueOf((long) value) : String.valueOf(value);
+    }
+}
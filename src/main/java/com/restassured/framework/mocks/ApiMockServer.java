@@ -1,32 +1,95 @@
 package com.restassured.framework.mocks;
 
 import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.constants.ApiConstants;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.metrics.MetricsCollector;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsWriter;
+import com.restassured.framework.utils.DataUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
- * Simplified API Mock Server for API mocking capabilities
- * Note: This is a placeholder implementation. For full WireMock functionality,
- * ensure WireMock dependencies are properly resolved in pom.xml
+ * Lightweight API Mock Server backed by the JDK HTTP server.
+ * Stubs are held in a layered {@link StubTable} of {@link StubRouter}s, so
+ * lookup cost depends on the request path length rather than on the number
+ * of registered stubs, and reset is an O(1) rollback to a baseline snapshot.
+ * Stub operations made from a thread with a {@link MockNamespace} act on that
+ * namespace's own table, which only requests carrying the matching
+ * X-Mock-Namespace header see; all requests fall back to the shared stubs.
+ * Requests that match no stub can be proxied to a real backend and recorded
+ * into an {@link ExchangeStore}, answered from a previous recording, or
+ * served by an in-memory {@link ResourceEmulator}.
  */
 public class ApiMockServer {
     private static final Logger logger = LoggerFactory.getLogger(ApiMockServer.class);
+    // Managed by the HTTP stack on either side of the proxy, or only meaningful to this server
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "content-length", "date", "expect", "host", "keep-alive",
+            "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade",
+            "via", "warning", "x-mock-namespace");
     private final ConfigManager configManager;
-    private final int port;
-    private final String baseUrl;
+    private volatile StubTable stubs = StubTable.empty();
+    private final Map<String, StubTable> namespaceStubs = new ConcurrentHashMap<>();
+    private volatile StubTable.Snapshot baseline = StubTable.empty().freeze();
+    private final int requestedPort;
+    private int port;
+    private String baseUrl;
+    private HttpServer server;
+    private ExecutorService executor;
+    private TimerWheel timerWheel;
+    private ExchangeStore exchangeStore;
+    private String proxyTargetUrl;
+    private HttpClient proxyClient;
+    private ResourceEmulator resourceEmulator;
+    private RequestJournal journal = new RequestJournal(1, null);
     private boolean isRunning = false;
+    private final MetricsCollector metricsCollector = this::collectMetrics;
 
     public ApiMockServer() {
         this.configManager = ConfigManager.getInstance();
-        this.port = configManager.getIntProperty("mock.server.port", 8080);
+        this.requestedPort = configManager.getIntProperty("mock.server.port", 8080);
+        this.port = requestedPort;
         this.baseUrl = "http://localhost:" + port;
     }
 
+    /**
+     * Create a mock server on the given port; port 0 picks a free ephemeral port on start
+     */
     public ApiMockServer(int port) {
         this.configManager = ConfigManager.getInstance();
+        this.requestedPort = port;
         this.port = port;
         this.baseUrl = "http://localhost:" + port;
     }
@@ -34,36 +97,232 @@ public class ApiMockServer {
     /**
      * Start Mock Server
      */
-    public void start() {
+    public synchronized void start() {
         if (isRunning) {
             logger.warn("Mock server is already running on port {}", port);
             return;
         }
 
-        // Placeholder for WireMock server start
+        configureModeFromProperties();
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", requestedPort), 0);
+        } catch (IOException e) {
+            logger.error("Failed to bind mock server on port {}", requestedPort, e);
+            throw new RuntimeException("Mock server start failed", e);
+        }
+        executor = Executors.newFixedThreadPool(configManager.getIntProperty("mock.server.threads", 16), runnable -> {
+            Thread thread = new Thread(runnable, "mock-server-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timerWheel = new TimerWheel(configManager.getIntProperty("mock.server.timer.tick.ms", 1),
+                TimeUnit.MILLISECONDS, 512, executor);
+        timerWheel.start();
+        String spillFile = configManager.getProperty("mock.server.journal.spill.file", "").trim();
+        journal = new RequestJournal(configManager.getIntProperty("mock.server.journal.capacity", 65536),
+                spillFile.isEmpty() ? null : Paths.get(spillFile));
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+
+        port = server.getAddress().getPort();
+        baseUrl = "http://localhost:" + port;
         logger.info("Mock server started on port: {}", port);
         logger.info("Mock server base URL: {}", baseUrl);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
         isRunning = true;
+        MockNamespace.registerServer(baseUrl);
+        MetricsRegistry.getInstance().register(metricsCollector);
     }
 
     /**
      * Stop Mock Server
      */
-    public void stop() {
+    public synchronized void stop() {
         if (isRunning) {
+            MockNamespace.unregisterServer(baseUrl);
+            MetricsRegistry.getInstance().unregister(metricsCollector);
+            server.stop(0);
+            timerWheel.stop();
+            executor.shutdownNow();
+            journal.close();
+            closeExchangeStore();
             logger.info("Mock server stopped");
             isRunning = false;
         }
     }
 
+    private void collectMetrics(OpenMetricsWriter writer) {
+        String portLabel = String.valueOf(port);
+        writer.family("mock_server_requests", "counter", "Requests received by the mock server");
+        writer.sample("mock_server_requests", "mock_server_requests_total", journal.totalRecorded(), "port", portLabel);
+        writer.family("mock_server_journal_dropped", "counter", "Journal entries lost before reaching the spill file");
+        writer.sample("mock_server_journal_dropped", "mock_server_journal_dropped_total", journal.droppedCount(), "port", portLabel);
+        writer.family("mock_server_stubs", "gauge", "Shared stubs registered on the mock server");
+        writer.sample("mock_server_stubs", "mock_server_stubs", stubs.size(), "port", portLabel);
+    }
+
+    /**
+     * Proxy requests that match no stub to the target and record every exchange
+     */
+    public synchronized void enableRecording(String targetBaseUrl, Path storeFile) {
+        closeExchangeStore();
+        this.proxyTargetUrl = targetBaseUrl.replaceAll("/+$", "");
+        this.proxyClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(configManager.getIntProperty("connection.timeout", 10000)))
+                .build();
+        this.exchangeStore = ExchangeStore.open(storeFile);
+        logger.info("Mock server recording {} into {}", proxyTargetUrl, storeFile);
+    }
+
+    /**
+     * Answer requests that match no stub from a previous recording
+     */
+    public synchronized void enableReplay(Path storeFile) {
+        closeExchangeStore();
+        this.proxyTargetUrl = null;
+        this.proxyClient = null;
+        this.exchangeStore = ExchangeStore.open(storeFile);
+        logger.info("Mock server replaying {} recorded exchanges from {}", exchangeStore.size(), storeFile);
+    }
+
+    /**
+     * Serve JSONPlaceholder-style resources that match no stub from an in-memory emulator
+     */
+    public void enableResourceEmulator(ResourceEmulator emulator) {
+        this.resourceEmulator = emulator;
+        logger.info("Mock server emulating resources in memory");
+    }
+
+    public ResourceEmulator getResourceEmulator() {
+        return resourceEmulator;
+    }
+
+    public boolean isRecording() {
+        return proxyTargetUrl != null;
+    }
+
+    /**
+     * Pick up record/replay mode from mock.server.mode unless it was enabled programmatically
+     */
+    private void configureModeFromProperties() {
+        if (exchangeStore != null || resourceEmulator != null) {
+            return;
+        }
+        String mode = configManager.getProperty("mock.server.mode", "stub").trim().toLowerCase(Locale.ROOT);
+        Path storeFile = Paths.get(configManager.getProperty("mock.server.recording.file",
+                "src/test/resources/recordings/" + configManager.getEnvironment() + ".rec"));
+        switch (mode) {
+            case "record":
+                enableRecording(configManager.getBaseUrl(), storeFile);
+                break;
+            case "replay":
+                enableReplay(storeFile);
+                break;
+            case "emulate":
+                enableResourceEmulator(ResourceEmulator.fromSeed(DataUtils.readJsonFile(configManager.getProperty(
+                        "mock.server.emulator.seed", "src/test/resources/testdata/jsonplaceholder-seed.json"))));
+                break;
+            case "stub":
+                break;
+            default:
+                logger.warn("Unknown mock.server.mode '{}', serving stubs only", mode);
+        }
+    }
+
+    private void closeExchangeStore() {
+        if (exchangeStore != null) {
+            try {
+                exchangeStore.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close exchange store: {}", e.getMessage());
+            }
+            exchangeStore = null;
+        }
+    }
+
     /**
-     * Reset Mock Server
+     * Reset Mock Server: roll back to the baseline snapshot, dropping every stub registered since.
+     * Within a namespace only that namespace's stubs are dropped.
      */
     public void reset() {
-        if (isRunning) {
-            logger.info("Mock server reset");
+        String namespace = MockNamespace.get();
+        if (namespace != null) {
+            namespaceStubs.remove(namespace);
+            if (resourceEmulator != null) {
+                resourceEmulator.reset(namespace);
+            }
+            logger.debug("Mock server namespace {} reset", namespace);
+            return;
         }
+        reset(baseline);
+    }
+
+    /**
+     * Roll the current stub table back to a snapshot taken earlier from it
+     */
+    public void reset(StubTable.Snapshot snapshot) {
+        String namespace = MockNamespace.get();
+        if (namespace != null) {
+            namespaceStubs.put(namespace, StubTable.on(snapshot));
+        } else {
+            synchronized (this) {
+                stubs = StubTable.on(snapshot);
+            }
+        }
+        logger.debug("Mock server reset to {}", snapshot);
+    }
+
+    /**
+     * Freeze the current stubs into an immutable snapshot; later stubs are layered on top of it
+     */
+    public StubTable.Snapshot snapshot() {
+        String namespace = MockNamespace.get();
+        if (namespace != null) {
+            StubTable.Snapshot[] frozen = new StubTable.Snapshot[1];
+            namespaceStubs.compute(namespace, (name, table) -> {
+                frozen[0] = (table != null ? table : StubTable.empty()).freeze();
+                return StubTable.on(frozen[0]);
+            });
+            return frozen[0];
+        }
+        synchronized (this) {
+            StubTable.Snapshot snapshot = stubs.freeze();
+            stubs = StubTable.on(snapshot);
+            return snapshot;
+        }
+    }
+
+    /**
+     * Snapshot the shared stubs and make them the state that {@link #reset()} returns to
+     */
+    public synchronized StubTable.Snapshot markBaseline() {
+        StubTable.Snapshot snapshot = stubs.freeze();
+        stubs = StubTable.on(snapshot);
+        baseline = snapshot;
+        logger.info("Mock server baseline set to {}", baseline);
+        return baseline;
+    }
+
+    /**
+     * Register a fully configured stub
+     */
+    public StubMapping register(StubMapping stub) {
+        String namespace = MockNamespace.get();
+        if (namespace != null) {
+            // compute() serializes writers of the same namespace against snapshot/reset
+            namespaceStubs.compute(namespace, (name, table) -> {
+                StubTable target = table != null ? table : StubTable.empty();
+                target.add(stub);
+                return target;
+            });
+            logger.info("Registered {} in namespace {}", stub, namespace);
+            return stub;
+        }
+        synchronized (this) {
+            stubs.add(stub);
+        }
+        logger.info("Registered {}", stub);
+        return stub;
     }
 
     /**
@@ -77,8 +336,21 @@ public class ApiMockServer {
      * Mock GET endpoint: {endpoint} with headers
      */
     public void mockGet(String endpoint, int statusCode, String responseBody, Map<String, String> headers) {
-        logger.info("Mocked GET {} -> Status: {}, Body: {}", endpoint, statusCode, responseBody);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
+        register(new StubMapping("GET", endpoint, statusCode, responseBody, headers));
+    }
+
+    /**
+     * Mock GET endpoint: {endpoint} whose body is streamed from a file
+     */
+    public void mockGetFromFile(String endpoint, int statusCode, Path bodyFile) {
+        mockGetFromFile(endpoint, statusCode, bodyFile, new HashMap<>());
+    }
+
+    /**
+     * Mock GET endpoint: {endpoint} whose body is streamed from a file, with headers
+     */
+    public void mockGetFromFile(String endpoint, int statusCode, Path bodyFile, Map<String, String> headers) {
+        register(new StubMapping("GET", endpoint, statusCode, null, headers).withBodyFile(bodyFile));
     }
 
     /**
@@ -92,8 +364,7 @@ public class ApiMockServer {
      * Mock POST endpoint: {endpoint} with headers
      */
     public void mockPost(String endpoint, int statusCode, String responseBody, Map<String, String> headers) {
-        logger.info("Mocked POST {} -> Status: {}, Body: {}", endpoint, statusCode, responseBody);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
+        register(new StubMapping("POST", endpoint, statusCode, responseBody, headers));
     }
 
     /**
@@ -107,8 +378,7 @@ public class ApiMockServer {
      * Mock PUT endpoint: {endpoint} with headers
      */
     public void mockPut(String endpoint, int statusCode, String responseBody, Map<String, String> headers) {
-        logger.info("Mocked PUT {} -> Status: {}, Body: {}", endpoint, statusCode, responseBody);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
+        register(new StubMapping("PUT", endpoint, statusCode, responseBody, headers));
     }
 
     /**
@@ -122,24 +392,287 @@ public class ApiMockServer {
      * Mock DELETE endpoint: {endpoint} with headers
      */
     public void mockDelete(String endpoint, int statusCode, String responseBody, Map<String, String> headers) {
-        logger.info("Mocked DELETE {} -> Status: {}, Body: {}", endpoint, statusCode, responseBody);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
+        register(new StubMapping("DELETE", endpoint, statusCode, responseBody, headers));
     }
 
     /**
      * Mock endpoint with delay: {endpoint}
      */
     public void mockWithDelay(String method, String endpoint, int statusCode, String responseBody, int delayMs) {
-        logger.info("Mocked {} {} with {}ms delay -> Status: {}", method, endpoint, delayMs, statusCode);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
+        register(new StubMapping(method, endpoint, statusCode, responseBody, null).withDelay(delayMs));
+    }
+
+    /**
+     * Mock endpoint whose response delay is drawn from a latency distribution
+     */
+    public void mockWithLatency(String method, String endpoint, int statusCode, String responseBody, LatencyDistribution latency) {
+        register(new StubMapping(method, endpoint, statusCode, responseBody, null).withLatency(latency));
     }
 
     /**
      * Mock endpoint with JSON body matching
      */
     public void mockWithBodyMatching(String method, String endpoint, String requestBodyPattern, int statusCode, String responseBody) {
-        logger.info("Mocked {} {} with body matching -> Status: {}", method, endpoint, statusCode);
-        logger.warn("WireMock functionality is not available. This is a placeholder implementation.");
+        register(new StubMapping(method, endpoint, statusCode, responseBody, null).withBodyMatching(requestBodyPattern));
+    }
+
+    /**
+     * Mock endpoint matched on request header values (regex per header)
+     */
+    public void mockWithHeaderMatching(String method, String endpoint, Map<String, String> headerPatterns, int statusCode, String responseBody) {
+        StubMapping stub = new StubMapping(method, endpoint, statusCode, responseBody, null);
+        headerPatterns.forEach(stub::withHeaderMatching);
+        register(stub);
+    }
+
+    /**
+     * Number of stubs visible to the current thread's namespace
+     */
+    public int getStubCount() {
+        String namespace = MockNamespace.get();
+        StubTable table = namespace != null ? namespaceStubs.get(namespace) : null;
+        return stubs.size() + (table != null ? table.size() : 0);
+    }
+
+    /**
+     * Journaled requests for a method and path (exact or {param} template) whose body matches.
+     * Within a namespace only that namespace's requests are considered.
+     */
+    public List<RequestJournal.Entry> findRequests(String method, String path, Predicate<String> bodyPredicate) {
+        String upperMethod = method.toUpperCase(Locale.ROOT);
+        String[] template = StubRouter.splitPath(path);
+        String namespace = MockNamespace.get();
+        return journal.find(request -> request.getMethod().equals(upperMethod)
+                && (namespace == null || namespace.equals(request.getHeader(ApiConstants.X_MOCK_NAMESPACE)))
+                && matchesTemplate(template, StubRouter.splitPath(request.getPath()))
+                && (bodyPredicate == null || bodyPredicate.test(request.getBody())));
+    }
+
+    public int countRequests(String method, String path) {
+        return countRequests(method, path, null);
+    }
+
+    public int countRequests(String method, String path, Predicate<String> bodyPredicate) {
+        return findRequests(method, path, bodyPredicate).size();
+    }
+
+    /**
+     * Assert that the mock server received exactly the given number of matching requests
+     */
+    public void verify(int times, String method, String path) {
+        verify(times, method, path, null);
+    }
+
+    public void verify(int times, String method, String path, Predicate<String> bodyPredicate) {
+        int actual = countRequests(method, path, bodyPredicate);
+        if (actual != times) {
+            String errorMsg = String.format("Expected %s %s to be received %d time(s) but was received %d time(s)",
+                    method, path, times, actual);
+            logger.error(errorMsg);
+            throw new AssertionError(errorMsg);
+        }
+    }
+
+    /**
+     * Drop all retained journal entries
+     */
+    public void clearJournal() {
+        journal.clear();
+    }
+
+    public RequestJournal getJournal() {
+        return journal;
+    }
+
+    private static boolean matchesTemplate(String[] template, String[] segments) {
+        if (template.length != segments.length) {
+            return false;
+        }
+        for (int i = 0; i < template.length; i++) {
+            boolean param = template[i].startsWith("{") && template[i].endsWith("}");
+            if (!param && !template[i].equals(segments[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private StubMapping findStub(MockRequest request) {
+        String namespace = request.getHeader(ApiConstants.X_MOCK_NAMESPACE);
+        if (namespace != null) {
+            StubTable table = namespaceStubs.get(namespace);
+            StubMapping stub = table != null ? table.find(request) : null;
+            if (stub != null) {
+                return stub;
+            }
+        }
+        return stubs.find(request);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            MockRequest request = readRequest(exchange);
+            journal.record(request);
+            StubMapping stub = findStub(request);
+            if (stub == null && resourceEmulator != null && resourceEmulator.handles(request)) {
+                MockResponse response = resourceEmulator.handle(request);
+                respond(exchange, response.getStatusCode(), response.getBody(), response.getHeaders());
+                return;
+            }
+            if (stub == null && exchangeStore != null) {
+                handleUnstubbed(exchange, request);
+                return;
+            }
+            if (stub == null) {
+                logger.warn("No stub matched request: {}", request);
+                String body = "{\"error\": \"No stub matched\", \"request\": \"" + request + "\"}";
+                respond(exchange, 404, body, Map.of("Content-Type", "application/json"));
+                return;
+            }
+            long delayMs = stub.sampleDelayMs();
+            if (delayMs > 0) {
+                // The exchange stays open; the wheel completes it without parking a worker thread
+                timerWheel.schedule(() -> respond(exchange, stub), delayMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+            respond(exchange, stub);
+        } catch (RuntimeException e) {
+            logger.error("Mock server failed to handle request", e);
+            respond(exchange, 500, "{\"error\": \"Mock server error\"}", Map.of("Content-Type", "application/json"));
+        }
+    }
+
+    private void handleUnstubbed(HttpExchange exchange, MockRequest request) {
+        String key = ExchangeStore.keyFor(request);
+        ExchangeStore.RecordedExchange recorded;
+        if (isRecording()) {
+            recorded = forward(request);
+            exchangeStore.append(key, recorded);
+        } else {
+            recorded = exchangeStore.find(key);
+        }
+        if (recorded == null) {
+            logger.warn("No recorded exchange for request: {}", request);
+            respond(exchange, 404, "{\"error\": \"No recorded exchange\", \"request\": \"" + request + "\"}",
+                    Map.of("Content-Type", "application/json"));
+            return;
+        }
+        respond(exchange, recorded.getStatusCode(), recorded.getBody(), recorded.getHeaders());
+    }
+
+    private ExchangeStore.RecordedExchange forward(MockRequest request) {
+        String query = request.getQuery() != null ? "?" + request.getQuery() : "";
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(proxyTargetUrl + request.getPath() + query))
+                .timeout(Duration.ofMillis(configManager.getTimeout()))
+                .method(request.getMethod(), request.getBody().isEmpty()
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(request.getBody()));
+        request.getHeaders().forEach((name, value) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                builder.header(name, value);
+            }
+        });
+        try {
+            HttpResponse<byte[]> response = proxyClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                if (!HOP_BY_HOP_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT)) && !header.getKey().startsWith(":")) {
+                    headers.put(header.getKey(), String.join(",", header.getValue()));
+                }
+            }
+            return new ExchangeStore.RecordedExchange(response.statusCode(), headers, response.body());
+        } catch (IOException e) {
+            logger.error("Failed to proxy {} to {}", request, proxyTargetUrl, e);
+            throw new RuntimeException("Proxy request failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Proxy request interrupted", e);
+        }
+    }
+
+    private void respond(HttpExchange exchange, StubMapping stub) {
+        if (stub.getBodyFile() == null) {
+            respond(exchange, stub.getStatusCode(), stub.getResponseBytes(), stub.getResponseHeaders());
+            return;
+        }
+        FileChannel file;
+        long size;
+        try {
+            // Opened before any header is sent, so a bad stub still gets a response
+            file = FileChannel.open(stub.getBodyFile(), StandardOpenOption.READ);
+            size = file.size();
+        } catch (IOException e) {
+            logger.error("Mock response body {} cannot be read", stub.getBodyFile(), e);
+            String error = ("Mock response body " + stub.getBodyFile() + " cannot be read: " + e).replace("\\", "\\\\").replace("\"", "\\\"");
+            respond(exchange, 500, "{\"error\": \"" + error + "\"}", Map.of("Content-Type", "application/json"));
+            return;
+        }
+        try (file) {
+            writeFileResponse(exchange, stub, file, size);
+        } catch (IOException e) {
+            logger.warn("Failed to stream mock response from {}: {}", stub.getBodyFile(), e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, String body, Map<String, String> headers) {
+        respond(exchange, statusCode, body.getBytes(StandardCharsets.UTF_8), headers);
+    }
+
+    private void respond(HttpExchange exchange, int statusCode, byte[] body, Map<String, String> headers) {
+        try {
+            writeResponse(exchange, statusCode, body, headers);
+        } catch (IOException e) {
+            logger.warn("Failed to write mock response: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private MockRequest readRequest(HttpExchange exchange) throws IOException {
+        String body;
+        try (InputStream input = exchange.getRequestBody()) {
+            body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        return new MockRequest(exchange.getRequestMethod(), exchange.getRequestURI().getPath(),
+                exchange.getRequestURI().getRawQuery(), exchange.getRequestHeaders(), body);
+    }
+
+    private void writeResponse(HttpExchange exchange, int statusCode, byte[] bytes, Map<String, String> headers) throws IOException {
+        if (!headers.containsKey("Content-Type")) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+        }
+        headers.forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Stream a file-backed body with FileChannel.transferTo. Content-Length comes from the file
+     * size, and the body is moved in small chunks, so memory use stays flat whatever the
+     * file size or number of concurrent clients.
+     */
+    private void writeFileResponse(HttpExchange exchange, StubMapping stub, FileChannel file, long size) throws IOException {
+        if (!stub.getResponseHeaders().containsKey("Content-Type")) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+        }
+        stub.getResponseHeaders().forEach((name, value) -> exchange.getResponseHeaders().set(name, value));
+        exchange.sendResponseHeaders(stub.getStatusCode(), size == 0 ? -1 : size);
+        if (size == 0) {
+            return;
+        }
+        try (OutputStream output = exchange.getResponseBody();
+             WritableByteChannel target = Channels.newChannel(output)) {
+            long position = 0;
+            while (position < size) {
+                position += file.transferTo(position, size - position, target);
+            }
+        }
     }
 
     public String getBaseUrl() {
@@ -158,4 +691,4 @@ public class ApiMockServer {
         logger.warn("WireMock server is not available in this implementation");
         return null;
     }
-} 
\ No newline at end of file
+}
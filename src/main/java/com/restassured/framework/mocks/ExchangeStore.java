@@ -0,0 +1,269 @@
+package com.restassured.framework.mocks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Append-only on-disk store of recorded request/response exchanges.
+ *
+ * Record layout: [int length][int keyLength][key][int status][int headerCount]
+ * ([int nameLength][name][int valueLength][value])*[int bodyLength][body].
+ * Opening a store only scans the length-prefixed keys to build the
+ * in-memory index; headers and bodies are read on demand at lookup.
+ */
+public class ExchangeStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeStore.class);
+    private static final byte[] MAGIC = "MOCKREC1".getBytes(StandardCharsets.US_ASCII);
+    private final Path file;
+    private final FileChannel channel;
+    private final Map<String, Long> index = new ConcurrentHashMap<>();
+    private long writePosition;
+
+    private ExchangeStore(Path file) throws IOException {
+        this.file = file;
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() == 0) {
+            channel.write(ByteBuffer.wrap(MAGIC), 0);
+            writePosition = MAGIC.length;
+        } else {
+            writePosition = loadIndex();
+            // Drop a partially written trailing record, if any
+            channel.truncate(writePosition);
+        }
+    }
+
+    /**
+     * Open an existing store or create a new one
+     */
+    public static ExchangeStore open(Path file) {
+        try {
+            ExchangeStore store = new ExchangeStore(file);
+            logger.info("Opened exchange store {} with {} recorded exchanges", file, store.size());
+            return store;
+        } catch (IOException e) {
+            logger.error("Failed to open exchange store: {}", file, e);
+            throw new RuntimeException("Failed to open exchange store", e);
+        }
+    }
+
+    /**
+     * Lookup key for a request: method, path with query and, for requests with a body, a body digest
+     */
+    public static String keyFor(String method, String path, String query, String body) {
+        StringBuilder key = new StringBuilder(method).append(' ').append(path);
+        if (query != null && !query.isEmpty()) {
+            key.append('?').append(query);
+        }
+        if (body != null && !body.isEmpty()) {
+            key.append(" #").append(digest(body));
+        }
+        return key.toString();
+    }
+
+    public static String keyFor(MockRequest request) {
+        return keyFor(request.getMethod(), request.getPath(), request.getQuery(), request.getBody());
+    }
+
+    /**
+     * Append an exchange; a later recording of the same key replaces the earlier one on lookup
+     */
+    public synchronized void append(String key, RecordedExchange exchange) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int length = 4 + keyBytes.length + 4 + 4 + 4 + exchange.body.length;
+        for (Map.Entry<String, String> header : exchange.headers.entrySet()) {
+            length += 8 + utf8Length(header.getKey()) + utf8Length(header.getValue());
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(4 + length);
+        buffer.putInt(length);
+        putBytes(buffer, keyBytes);
+        buffer.putInt(exchange.statusCode);
+        buffer.putInt(exchange.headers.size());
+        for (Map.Entry<String, String> header : exchange.headers.entrySet()) {
+            putBytes(buffer, header.getKey().getBytes(StandardCharsets.UTF_8));
+            putBytes(buffer, header.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+        putBytes(buffer, exchange.body);
+        buffer.flip();
+
+        try {
+            long position = writePosition;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            index.put(key, writePosition);
+            writePosition = position;
+        } catch (IOException e) {
+            logger.error("Failed to append exchange {} to {}", key, file, e);
+            throw new RuntimeException("Failed to append recorded exchange", e);
+        }
+    }
+
+    /**
+     * Recorded exchange for the key, or null if it was never recorded
+     */
+    public RecordedExchange find(String key) {
+        Long offset = index.get(key);
+        if (offset == null) {
+            return null;
+        }
+        try {
+            ByteBuffer lengthBuffer = ByteBuffer.allocate(4);
+            readFully(lengthBuffer, offset);
+            ByteBuffer record = ByteBuffer.allocate(lengthBuffer.flip().getInt());
+            readFully(record, offset + 4);
+            record.flip();
+
+            skipBytes(record);
+            int statusCode = record.getInt();
+            int headerCount = record.getInt();
+            Map<String, String> headers = new LinkedHashMap<>();
+            for (int i = 0; i < headerCount; i++) {
+                headers.put(getString(record), getString(record));
+            }
+            byte[] body = new byte[record.getInt()];
+            record.get(body);
+            return new RecordedExchange(statusCode, headers, body);
+        } catch (IOException e) {
+            logger.error("Failed to read exchange {} from {}", key, file, e);
+            throw new RuntimeException("Failed to read recorded exchange", e);
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long loadIndex() throws IOException {
+        long size = channel.size();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Exchange store larger than 2GB is not supported: " + file);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        byte[] magic = new byte[MAGIC.length];
+        if (size < MAGIC.length) {
+            throw new IOException("Not an exchange store: " + file);
+        }
+        mapped.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not an exchange store: " + file);
+        }
+
+        int position = MAGIC.length;
+        while (size - position >= 8) {
+            int length = mapped.getInt(position);
+            int keyLength = mapped.getInt(position + 4);
+            if (keyLength < 0) {
+                throw new IOException("Corrupt exchange store " + file + ": negative key length " + keyLength + " at offset " + position);
+            }
+            if (length < 8 || position + 4L + length > size || keyLength > length - 4) {
+                logger.warn("Ignoring truncated record at offset {} in {}", position, file);
+                break;
+            }
+            byte[] key = new byte[keyLength];
+            mapped.position(position + 8);
+            mapped.get(key);
+            index.put(new String(key, StandardCharsets.UTF_8), (long) position);
+            position += 4 + length;
+        }
+        return position;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of exchange store " + file);
+            }
+        }
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static void skipBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        buffer.position(buffer.position() + length);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static String digest(String body) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Response captured for one request
+     */
+    public static class RecordedExchange {
+        private final int statusCode;
+        private final Map<String, String> headers;
+        private final byte[] body;
+
+        public RecordedExchange(int statusCode, Map<String, String> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+            this.body = body != null ? body : new byte[0];
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.restassured.framework.mocks;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Source of injected response latency for a stub, in milliseconds
+ */
+public interface LatencyDistribution {
+
+    /**
+     * Draw the delay for one response
+     */
+    long sampleMillis();
+
+    /**
+     * Always the same delay
+     */
+    static LatencyDistribution fixed(long delayMs) {
+        if (delayMs < 0) {
+            throw new IllegalArgumentException("Delay must not be negative: " + delayMs);
+        }
+        return () -> delayMs;
+    }
+
+    /**
+     * Uniformly distributed delay in [minMs, maxMs]
+     */
+    static LatencyDistribution uniform(long minMs, long maxMs) {
+        if (minMs < 0 || maxMs < minMs) {
+            throw new IllegalArgumentException(String.format("Invalid uniform range [%d, %d]", minMs, maxMs));
+        }
+        return () -> ThreadLocalRandom.current().nextLong(minMs, maxMs + 1);
+    }
+
+    /**
+     * Log-normal delay described by its median and 99th percentile, which is
+     * usually how service latency is reported and gives a realistic long tail
+     */
+    static LatencyDistribution logNormal(double medianMs, double p99Ms) {
+        if (medianMs <= 0 || p99Ms < medianMs) {
+            throw new IllegalArgumentException(String.format("Invalid log-normal median %.1f / p99 %.1f", medianMs, p99Ms));
+        }
+        double mu = Math.log(medianMs);
+        // 2.326 is the standard normal quantile at 0.99
+        double sigma = (Math.log(p99Ms) - mu) / 2.3263478740;
+        return () -> Math.round(Math.exp(mu + sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    /**
+     * Delay following a recorded percentile table, e.g. {50: 20, 90: 45, 99: 180, 100: 900}.
+     * Values between the given percentiles are interpolated linearly; outside them the
+     * lowest and highest recorded values apply, so no delay is made up below the minimum.
+     */
+    static LatencyDistribution percentiles(Map<Double, Long> percentileToMillis) {
+        NavigableMap<Double, Long> table = new TreeMap<>(percentileToMillis);
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Percentile table must not be empty");
+        }
+        for (Map.Entry<Double, Long> entry : table.entrySet()) {
+            if (entry.getKey() < 0 || entry.getKey() > 100 || entry.getValue() < 0) {
+                throw new IllegalArgumentException("Invalid percentile entry: " + entry);
+            }
+        }
+        table.putIfAbsent(0.0, table.firstEntry().getValue());
+        table.putIfAbsent(100.0, table.lastEntry().getValue());
+        return () -> {
+            double p = ThreadLocalRandom.current().nextDouble(100.0);
+            Map.Entry<Double, Long> low = table.floorEntry(p);
+            Map.Entry<Double, Long> high = table.ceilingEntry(p);
+            if (high == null || low.getKey().equals(high.getKey())) {
+                return low.getValue();
+            }
+            double fraction = (p - low.getKey()) / (high.getKey() - low.getKey());
+            return Math.round(low.getValue() + fraction * (high.getValue() - low.getValue()));
+        };
+    }
+}
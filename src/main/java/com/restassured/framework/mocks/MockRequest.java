@@ -0,0 +1,91 @@
+package com.restassured.framework.mocks;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Incoming request as seen by the mock server
+ */
+public class MockRequest {
+    private final String method;
+    private final String path;
+    private final String query;
+    private final Map<String, String> headers;
+    private final String body;
+
+    public MockRequest(String method, String path, String query, Map<String, List<String>> rawHeaders, String body) {
+        this.method = method.toUpperCase(Locale.ROOT);
+        this.path = path;
+        this.query = query;
+        this.body = body != null ? body : "";
+
+        Map<String, String> headerMap = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (rawHeaders != null) {
+            for (Map.Entry<String, List<String>> entry : rawHeaders.entrySet()) {
+                if (entry.getKey() != null && entry.getValue() != null && !entry.getValue().isEmpty()) {
+                    headerMap.put(entry.getKey(), entry.getValue().get(0));
+                }
+            }
+        }
+        this.headers = Collections.unmodifiableMap(headerMap);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Decoded query parameters; the last value wins for repeated names
+     */
+    public Map<String, String> getQueryParameters() {
+        return parseQuery(query);
+    }
+
+    /**
+     * Header lookup is case-insensitive, as in HTTP
+     */
+    public String getHeader(String name) {
+        return headers.get(name);
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            String value = separator >= 0 ? pair.substring(separator + 1) : "";
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path + (query != null ? "?" + query : "");
+    }
+}
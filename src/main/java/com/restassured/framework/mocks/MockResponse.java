@@ -0,0 +1,40 @@
+package com.restassured.framework.mocks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Response produced by a mock server component other than a static stub
+ */
+public class MockResponse {
+    private final int statusCode;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    public MockResponse(int statusCode, Map<String, String> headers, byte[] body) {
+        this.statusCode = statusCode;
+        this.headers = headers != null
+                ? Collections.unmodifiableMap(new LinkedHashMap<>(headers))
+                : Collections.emptyMap();
+        this.body = body != null ? body : new byte[0];
+    }
+
+    public static MockResponse json(int statusCode, String body) {
+        return new MockResponse(statusCode, Map.of("Content-Type", "application/json"),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,204 @@
+package com.restassured.framework.mocks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Bounded, lock-free journal of requests received by the mock server.
+ * Writers claim a sequence number and publish into a ring buffer slot with a
+ * compare-and-set that never replaces a newer entry, so a writer that stalled
+ * for a full lap cannot hide a later request. Once the ring wraps, the oldest
+ * entries are overwritten, or handed to a background thread that appends them
+ * to a spill file as JSON lines; the hand-off queue is bounded and entries it
+ * has no room for are counted as dropped. Readers scan the ring without
+ * blocking writers and skip slots that have been overwritten since the scan
+ * started.
+ */
+public class RequestJournal {
+    private static final Logger logger = LoggerFactory.getLogger(RequestJournal.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReferenceArray<Entry> ring;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Path spillFile;
+    private final BlockingQueue<Entry> spillQueue;
+    private final LongAdder dropped = new LongAdder();
+    private Thread spiller;
+    private volatile boolean running = true;
+
+    /**
+     * @param capacity  entries retained in memory, rounded up to a power of two
+     * @param spillFile file receiving evicted entries, or null to drop them;
+     *                  at most capacity entries wait to be written
+     */
+    public RequestJournal(int capacity, Path spillFile) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.ring = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.spillFile = spillFile;
+        this.spillQueue = spillFile != null ? new ArrayBlockingQueue<>(size) : null;
+        if (spillFile != null) {
+            spiller = new Thread(this::spill, "mock-journal-spiller");
+            spiller.setDaemon(true);
+            spiller.start();
+        }
+    }
+
+    public void record(MockRequest request) {
+        long seq = sequence.getAndIncrement();
+        int slot = (int) (seq & mask);
+        Entry entry = new Entry(seq, System.currentTimeMillis(), request);
+        Entry evicted;
+        while (true) {
+            Entry current = ring.get(slot);
+            if (current != null && current.sequence > seq) {
+                // A writer one or more laps ahead already took the slot, so this entry is the older one
+                evicted = entry;
+                break;
+            }
+            if (ring.compareAndSet(slot, current, entry)) {
+                evicted = current;
+                break;
+            }
+        }
+        if (evicted != null && spillQueue != null && !spillQueue.offer(evicted)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * Retained requests matching the predicate, oldest first
+     */
+    public List<Entry> find(Predicate<MockRequest> predicate) {
+        List<Entry> matches = new ArrayList<>();
+        long end = sequence.get();
+        for (long seq = Math.max(0, end - ring.length()); seq < end; seq++) {
+            Entry entry = ring.get((int) (seq & mask));
+            // Skip slots not yet published or already overwritten by a newer request
+            if (entry != null && entry.sequence == seq && predicate.test(entry.request)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    public int count(Predicate<MockRequest> predicate) {
+        return find(predicate).size();
+    }
+
+    /**
+     * Total number of requests recorded, including evicted ones
+     */
+    public long totalRecorded() {
+        return sequence.get();
+    }
+
+    /**
+     * Evicted entries lost because the spill file writer fell a full ring behind
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    public void close() {
+        running = false;
+        if (spiller != null) {
+            spiller.interrupt();
+            try {
+                spiller.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void spill() {
+        try {
+            if (spillFile.getParent() != null) {
+                Files.createDirectories(spillFile.getParent());
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                while (running || !spillQueue.isEmpty()) {
+                    Entry entry = spillQueue.poll();
+                    if (entry == null) {
+                        writer.flush();
+                        try {
+                            TimeUnit.MILLISECONDS.sleep(50);
+                        } catch (InterruptedException e) {
+                            // Woken up by close(); drain what is left
+                        }
+                        continue;
+                    }
+                    writer.write(toJson(entry));
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Request journal spill to {} failed", spillFile, e);
+        }
+    }
+
+    private static String toJson(Entry entry) throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("sequence", entry.sequence);
+        node.put("timestamp", entry.timestamp);
+        node.put("method", entry.request.getMethod());
+        node.put("path", entry.request.getPath());
+        node.put("query", entry.request.getQuery());
+        node.set("headers", objectMapper.valueToTree(entry.request.getHeaders()));
+        node.put("body", entry.request.getBody());
+        return objectMapper.writeValueAsString(node);
+    }
+
+    /**
+     * One journaled request
+     */
+    public static class Entry {
+        private final long sequence;
+        private final long timestamp;
+        private final MockRequest request;
+
+        Entry(long sequence, long timestamp, MockRequest request) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.request = request;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public MockRequest getRequest() {
+            return request;
+        }
+    }
+}
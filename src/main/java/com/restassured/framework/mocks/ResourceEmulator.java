@@ -0,0 +1,210 @@
+package com.restassured.framework.mocks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.restassured.framework.constants.ApiConstants;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSONPlaceholder-style REST emulator over in-memory {@link ResourceStore}s.
+ * Supports list/get/create/replace/patch/delete on /{resource} and
+ * /{resource}/{id}, nested lists such as /posts/1/comments, field equality
+ * filters and the _page/_limit/_start/_end/_sort/_order query parameters.
+ * Requests carrying an X-Mock-Namespace header write to that namespace's own
+ * copy of the data, made on its first write and dropped by {@link #reset(String)},
+ * so a test deleting a record never hides it from the tests after it.
+ */
+public class ResourceEmulator {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceEmulator.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private final Map<String, ResourceStore> stores = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, ResourceStore>> namespaceStores = new ConcurrentHashMap<>();
+
+    /**
+     * Build an emulator from a seed document of the form {"users": [...], "posts": [...]}
+     */
+    public static ResourceEmulator fromSeed(JsonNode seed) {
+        ResourceEmulator emulator = new ResourceEmulator();
+        Iterator<Map.Entry<String, JsonNode>> resources = seed.fields();
+        while (resources.hasNext()) {
+            Map.Entry<String, JsonNode> resource = resources.next();
+            ResourceStore store = emulator.addResource(resource.getKey());
+            for (JsonNode record : resource.getValue()) {
+                if (record.isObject()) {
+                    store.create((ObjectNode) record);
+                }
+            }
+            logger.info("Seeded emulated resource /{} with {} records", resource.getKey(), store.size());
+        }
+        return emulator;
+    }
+
+    public ResourceStore addResource(String name) {
+        return stores.computeIfAbsent(name, ResourceStore::new);
+    }
+
+    public ResourceStore getResource(String name) {
+        return stores.get(name);
+    }
+
+    /**
+     * Whether the request targets an emulated resource
+     */
+    public boolean handles(MockRequest request) {
+        String[] segments = StubRouter.splitPath(request.getPath());
+        return segments.length > 0 && segments.length <= 3 && stores.containsKey(segments[0]);
+    }
+
+    /**
+     * Drop the namespace's copy of the data; its next request sees the shared data again
+     */
+    public void reset(String namespace) {
+        if (namespaceStores.remove(namespace) != null) {
+            logger.debug("Emulated resources of namespace {} reset", namespace);
+        }
+    }
+
+    public MockResponse handle(MockRequest request) {
+        String[] segments = StubRouter.splitPath(request.getPath());
+        Map<String, ResourceStore> stores = storesFor(request);
+        ResourceStore store = stores.get(segments[0]);
+        Map<String, String> query = request.getQueryParameters();
+        try {
+            if (segments.length == 1) {
+                return handleCollection(store, request, query);
+            }
+            int id = Integer.parseInt(segments[1]);
+            if (segments.length == 3) {
+                ResourceStore child = stores.get(segments[2]);
+                if (child == null || !"GET".equals(request.getMethod())) {
+                    return notFound();
+                }
+                // /posts/1/comments lists comments with postId=1
+                query.put(foreignKey(store.getName()), String.valueOf(id));
+                return list(child, query);
+            }
+            return handleRecord(store, id, request);
+        } catch (NumberFormatException e) {
+            return notFound();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return MockResponse.json(400, "{\"error\": \"Request body must be a JSON object\"}");
+        }
+    }
+
+    private MockResponse handleCollection(ResourceStore store, MockRequest request, Map<String, String> query) throws JsonProcessingException {
+        switch (request.getMethod()) {
+            case "GET":
+                return list(store, query);
+            case "POST":
+                return MockResponse.json(201, objectMapper.writeValueAsString(store.create(readObject(request))));
+            default:
+                return MockResponse.json(405, "{}");
+        }
+    }
+
+    private MockResponse handleRecord(ResourceStore store, int id, MockRequest request) throws JsonProcessingException {
+        ObjectNode record;
+        switch (request.getMethod()) {
+            case "GET":
+                record = store.get(id);
+                break;
+            case "PUT":
+                record = store.replace(id, readObject(request));
+                break;
+            case "PATCH":
+                record = store.patch(id, readObject(request));
+                break;
+            case "DELETE":
+                return store.delete(id) ? MockResponse.json(200, "{}") : notFound();
+            default:
+                return MockResponse.json(405, "{}");
+        }
+        return record != null ? MockResponse.json(200, objectMapper.writeValueAsString(record)) : notFound();
+    }
+
+    private Map<String, ResourceStore> storesFor(MockRequest request) {
+        String namespace = request.getHeader(ApiConstants.X_MOCK_NAMESPACE);
+        if (namespace == null) {
+            return stores;
+        }
+        if ("GET".equals(request.getMethod())) {
+            return namespaceStores.getOrDefault(namespace, stores);
+        }
+        // Copied on the first write only, read-only tests share the data
+        return namespaceStores.computeIfAbsent(namespace, name -> {
+            Map<String, ResourceStore> copy = new ConcurrentHashMap<>();
+            stores.forEach((resource, store) -> copy.put(resource, store.copy()));
+            return copy;
+        });
+    }
+
+    private MockResponse list(ResourceStore store, Map<String, String> query) throws JsonProcessingException {
+        Map<String, String> filters = new HashMap<>();
+        query.forEach((name, value) -> {
+            if (!name.startsWith("_")) {
+                filters.put(name, value);
+            }
+        });
+
+        String sortField = query.get("_sort");
+        boolean descending = "desc".equalsIgnoreCase(query.get("_order"));
+        int start = 0;
+        int limit = Integer.MAX_VALUE;
+        if (query.containsKey("_page")) {
+            limit = parseInt(query.get("_limit"), DEFAULT_PAGE_SIZE);
+            start = (Math.max(parseInt(query.get("_page"), 1), 1) - 1) * limit;
+        } else {
+            start = Math.max(parseInt(query.get("_start"), 0), 0);
+            if (query.containsKey("_end")) {
+                limit = Math.max(parseInt(query.get("_end"), start) - start, 0);
+            } else if (query.containsKey("_limit")) {
+                limit = parseInt(query.get("_limit"), Integer.MAX_VALUE);
+            }
+        }
+
+        ResourceStore.Page page = store.query(filters, sortField, descending, start, Math.max(limit, 0));
+        ArrayNode items = objectMapper.createArrayNode();
+        page.getItems().forEach(items::add);
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("X-Total-Count", String.valueOf(page.getTotal()));
+        return new MockResponse(200, headers, objectMapper.writeValueAsBytes(items));
+    }
+
+    private static ObjectNode readObject(MockRequest request) throws JsonProcessingException {
+        JsonNode body = objectMapper.readTree(request.getBody().isEmpty() ? "{}" : request.getBody());
+        if (!body.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return (ObjectNode) body;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    // posts -> postId, users -> userId
+    private static String foreignKey(String resource) {
+        String singular = resource.endsWith("s") ? resource.substring(0, resource.length() - 1) : resource;
+        return singular + "Id";
+    }
+
+    private static MockResponse notFound() {
+        return MockResponse.json(404, "{}");
+    }
+}
@@ -0,0 +1,312 @@
+package com.restassured.framework.mocks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent in-memory collection of JSON records keyed by integer id.
+ * Equality indexes (for filters such as userId=1) and sort indexes (for
+ * _sort) are built on first use and kept up to date by every write, so
+ * filtered and sorted pages never require scanning or sorting the whole
+ * collection. Writes are serialized per collection; reads take no locks and
+ * records are never mutated after being stored.
+ */
+public class ResourceStore {
+    private static final Comparator<SortKey> SORT_ORDER = Comparator
+            .comparing((SortKey key) -> key.value, ResourceStore::compareValues)
+            .thenComparingInt(key -> key.id);
+    private final String name;
+    private final ConcurrentSkipListMap<Integer, ObjectNode> records = new ConcurrentSkipListMap<>();
+    private final Map<String, Map<String, NavigableSet<Integer>>> equalityIndexes = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<SortKey>> sortIndexes = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final Object writeLock = new Object();
+
+    public ResourceStore(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    public ObjectNode get(int id) {
+        return records.get(id);
+    }
+
+    /**
+     * Independent store with the same records; ids assigned later continue where this store's would
+     */
+    public ResourceStore copy() {
+        ResourceStore copy = new ResourceStore(name);
+        synchronized (writeLock) {
+            copy.records.putAll(records);
+            copy.nextId.set(nextId.get());
+        }
+        return copy;
+    }
+
+    /**
+     * Store a record with a newly assigned id, unless it already carries one (used when seeding)
+     */
+    public ObjectNode create(ObjectNode record) {
+        synchronized (writeLock) {
+            ObjectNode stored = record.deepCopy();
+            int id;
+            if (stored.path("id").canConvertToInt() && stored.path("id").intValue() > 0 && !records.containsKey(stored.path("id").intValue())) {
+                id = stored.path("id").intValue();
+                nextId.accumulateAndGet(id + 1, Math::max);
+            } else {
+                id = nextId.getAndIncrement();
+            }
+            stored.put("id", id);
+            put(id, null, stored);
+            return stored;
+        }
+    }
+
+    /**
+     * Replace a record entirely, keeping its id. Returns null if it does not exist.
+     */
+    public ObjectNode replace(int id, ObjectNode record) {
+        synchronized (writeLock) {
+            ObjectNode existing = records.get(id);
+            if (existing == null) {
+                return null;
+            }
+            ObjectNode stored = record.deepCopy();
+            stored.put("id", id);
+            put(id, existing, stored);
+            return stored;
+        }
+    }
+
+    /**
+     * Merge the given fields into a record. Returns null if it does not exist.
+     */
+    public ObjectNode patch(int id, ObjectNode fields) {
+        synchronized (writeLock) {
+            ObjectNode existing = records.get(id);
+            if (existing == null) {
+                return null;
+            }
+            ObjectNode stored = existing.deepCopy();
+            stored.setAll(fields.deepCopy());
+            stored.put("id", id);
+            put(id, existing, stored);
+            return stored;
+        }
+    }
+
+    public boolean delete(int id) {
+        synchronized (writeLock) {
+            ObjectNode existing = records.remove(id);
+            if (existing == null) {
+                return false;
+            }
+            unindex(id, existing);
+            return true;
+        }
+    }
+
+    /**
+     * Filter by field equality, optionally sort, and return the requested slice
+     */
+    public Page query(Map<String, String> filters, String sortField, boolean descending, int start, int limit) {
+        NavigableSet<Integer> candidates = null;
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            NavigableSet<Integer> ids = equalityIndex(filter.getKey()).getOrDefault(filter.getValue(), Collections.emptyNavigableSet());
+            if (candidates == null || ids.size() < candidates.size()) {
+                candidates = ids;
+            }
+        }
+
+        if (candidates == null && sortField == null) {
+            Iterator<ObjectNode> ordered = (descending ? records.descendingMap() : records).values().iterator();
+            return new Page(slice(ordered, start, limit), records.size());
+        }
+        if (candidates == null) {
+            NavigableSet<SortKey> index = sortIndex(sortField);
+            Iterator<SortKey> keys = (descending ? index.descendingSet() : index).iterator();
+            List<ObjectNode> items = new ArrayList<>();
+            int skipped = 0;
+            while (keys.hasNext() && items.size() < limit) {
+                ObjectNode record = records.get(keys.next().id);
+                if (record != null && skipped++ >= start) {
+                    items.add(record);
+                }
+            }
+            return new Page(items, records.size());
+        }
+
+        List<ObjectNode> matches = new ArrayList<>();
+        for (Integer id : candidates) {
+            ObjectNode record = records.get(id);
+            if (record != null && matchesAll(record, filters)) {
+                matches.add(record);
+            }
+        }
+        if (sortField != null) {
+            Comparator<ObjectNode> comparator = Comparator.comparing(record -> new SortKey(sortValue(record.get(sortField)),
+                    record.path("id").intValue()), SORT_ORDER);
+            matches.sort(descending ? comparator.reversed() : comparator);
+        } else if (descending) {
+            Collections.reverse(matches);
+        }
+        return new Page(slice(matches.iterator(), start, limit), matches.size());
+    }
+
+    private static List<ObjectNode> slice(Iterator<ObjectNode> iterator, int start, int limit) {
+        List<ObjectNode> items = new ArrayList<>();
+        int skipped = 0;
+        while (iterator.hasNext() && items.size() < limit) {
+            ObjectNode record = iterator.next();
+            if (skipped++ >= start) {
+                items.add(record);
+            }
+        }
+        return items;
+    }
+
+    private static boolean matchesAll(ObjectNode record, Map<String, String> filters) {
+        for (Map.Entry<String, String> filter : filters.entrySet()) {
+            JsonNode value = record.get(filter.getKey());
+            if (value == null || !value.isValueNode() || !value.asText().equals(filter.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void put(int id, ObjectNode previous, ObjectNode stored) {
+        if (previous != null) {
+            unindex(id, previous);
+        }
+        records.put(id, stored);
+        for (Map.Entry<String, Map<String, NavigableSet<Integer>>> index : equalityIndexes.entrySet()) {
+            JsonNode value = stored.get(index.getKey());
+            if (value != null && value.isValueNode()) {
+                index.getValue().computeIfAbsent(value.asText(), v -> new ConcurrentSkipListSet<>()).add(id);
+            }
+        }
+        for (Map.Entry<String, NavigableSet<SortKey>> index : sortIndexes.entrySet()) {
+            index.getValue().add(new SortKey(sortValue(stored.get(index.getKey())), id));
+        }
+    }
+
+    private void unindex(int id, ObjectNode previous) {
+        for (Map.Entry<String, Map<String, NavigableSet<Integer>>> index : equalityIndexes.entrySet()) {
+            JsonNode value = previous.get(index.getKey());
+            if (value != null && value.isValueNode()) {
+                NavigableSet<Integer> ids = index.getValue().get(value.asText());
+                if (ids != null) {
+                    ids.remove(id);
+                }
+            }
+        }
+        for (Map.Entry<String, NavigableSet<SortKey>> index : sortIndexes.entrySet()) {
+            index.getValue().remove(new SortKey(sortValue(previous.get(index.getKey())), id));
+        }
+    }
+
+    private Map<String, NavigableSet<Integer>> equalityIndex(String field) {
+        Map<String, NavigableSet<Integer>> index = equalityIndexes.get(field);
+        if (index != null) {
+            return index;
+        }
+        synchronized (writeLock) {
+            return equalityIndexes.computeIfAbsent(field, f -> {
+                Map<String, NavigableSet<Integer>> built = new ConcurrentHashMap<>();
+                records.forEach((id, record) -> {
+                    JsonNode value = record.get(f);
+                    if (value != null && value.isValueNode()) {
+                        built.computeIfAbsent(value.asText(), v -> new ConcurrentSkipListSet<>()).add(id);
+                    }
+                });
+                return built;
+            });
+        }
+    }
+
+    private NavigableSet<SortKey> sortIndex(String field) {
+        NavigableSet<SortKey> index = sortIndexes.get(field);
+        if (index != null) {
+            return index;
+        }
+        synchronized (writeLock) {
+            return sortIndexes.computeIfAbsent(field, f -> {
+                NavigableSet<SortKey> built = new ConcurrentSkipListSet<>(SORT_ORDER);
+                records.forEach((id, record) -> built.add(new SortKey(sortValue(record.get(f)), id)));
+                return built;
+            });
+        }
+    }
+
+    private static Object sortValue(JsonNode value) {
+        if (value == null || value.isNull() || !value.isValueNode()) {
+            return null;
+        }
+        return value.isNumber() ? (Object) value.doubleValue() : value.asText();
+    }
+
+    // Missing values first, then numbers, then text
+    private static int compareValues(Object a, Object b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        if (a instanceof Double && b instanceof Double) {
+            return Double.compare((Double) a, (Double) b);
+        }
+        if (a instanceof Double || b instanceof Double) {
+            return a instanceof Double ? -1 : 1;
+        }
+        return ((String) a).compareTo((String) b);
+    }
+
+    private static final class SortKey {
+        private final Object value;
+        private final int id;
+
+        SortKey(Object value, int id) {
+            this.value = value;
+            this.id = id;
+        }
+    }
+
+    /**
+     * One page of query results plus the total number of matching records
+     */
+    public static class Page {
+        private final List<ObjectNode> items;
+        private final int total;
+
+        Page(List<ObjectNode> items, int total) {
+            this.items = items;
+            this.total = total;
+        }
+
+        public List<ObjectNode> getItems() {
+            return items;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.restassured.framework.mocks;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A single stubbed endpoint: request conditions plus the canned response.
+ * Body patterns, header and query conditions are compiled once at registration
+ * so matching an incoming request never re-parses them. A query string in the
+ * endpoint, as in "/users?role=admin", is a condition: requests must carry
+ * those parameters with those values, and may carry others.
+ */
+public class StubMapping {
+    private final String method;
+    private final String pathTemplate;
+    private final int statusCode;
+    private final String responseBody;
+    private final byte[] responseBytes;
+    private final Map<String, String> responseHeaders;
+    private final Map<String, Pattern> headerConditions = new LinkedHashMap<>();
+    private final Map<String, String> queryConditions;
+    private JsonPath bodyPath;
+    private String bodyPattern;
+    private LatencyDistribution latency;
+    private Path bodyFile;
+
+    public StubMapping(String method, String pathTemplate, int statusCode, String responseBody, Map<String, String> responseHeaders) {
+        this.method = method.toUpperCase(Locale.ROOT);
+        int query = pathTemplate.indexOf('?');
+        this.pathTemplate = query >= 0 ? pathTemplate.substring(0, query) : pathTemplate;
+        this.queryConditions = query >= 0
+                ? Collections.unmodifiableMap(MockRequest.parseQuery(pathTemplate.substring(query + 1)))
+                : Collections.emptyMap();
+        this.statusCode = statusCode;
+        this.responseBody = responseBody != null ? responseBody : "";
+        // Encoded once here instead of on every response
+        this.responseBytes = this.responseBody.getBytes(StandardCharsets.UTF_8);
+        this.responseHeaders = responseHeaders != null
+                ? Collections.unmodifiableMap(new HashMap<>(responseHeaders))
+                : Collections.emptyMap();
+    }
+
+    /**
+     * Only match requests whose JSON body contains the given JSON path
+     */
+    public StubMapping withBodyMatching(String jsonPathPattern) {
+        try {
+            this.bodyPath = JsonPath.compile(jsonPathPattern);
+            this.bodyPattern = jsonPathPattern;
+        } catch (InvalidPathException e) {
+            throw new IllegalArgumentException("Invalid JSON path pattern: " + jsonPathPattern, e);
+        }
+        return this;
+    }
+
+    /**
+     * Only match requests carrying a header whose value matches the given regex
+     */
+    public StubMapping withHeaderMatching(String headerName, String valueRegex) {
+        headerConditions.put(headerName, Pattern.compile(valueRegex));
+        return this;
+    }
+
+    public StubMapping withDelay(int delayMs) {
+        return withLatency(LatencyDistribution.fixed(delayMs));
+    }
+
+    /**
+     * Delay each response by a value drawn from the given distribution
+     */
+    public StubMapping withLatency(LatencyDistribution latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    /**
+     * Serve the response body straight from a file instead of the in-memory string.
+     * The file is streamed on every response, so large fixtures are never held on the heap.
+     */
+    public StubMapping withBodyFile(Path file) {
+        if (!Files.isRegularFile(file) || !Files.isReadable(file)) {
+            throw new IllegalArgumentException("Response body file is not readable: " + file);
+        }
+        this.bodyFile = file;
+        return this;
+    }
+
+    /**
+     * Check the request conditions that are not part of the routing key
+     */
+    public boolean matches(MockRequest request) {
+        if (!queryConditions.isEmpty()) {
+            Map<String, String> query = request.getQueryParameters();
+            for (Map.Entry<String, String> condition : queryConditions.entrySet()) {
+                if (!condition.getValue().equals(query.get(condition.getKey()))) {
+                    return false;
+                }
+            }
+        }
+        for (Map.Entry<String, Pattern> condition : headerConditions.entrySet()) {
+            String value = request.getHeader(condition.getKey());
+            if (value == null || !condition.getValue().matcher(value).matches()) {
+                return false;
+            }
+        }
+        if (bodyPath != null) {
+            if (request.getBody().isEmpty()) {
+                return false;
+            }
+            try {
+                Object found = bodyPath.read(request.getBody());
+                // Filter and deep-scan paths return an empty list instead of throwing when nothing matches
+                if (found == null || (found instanceof List && ((List<?>) found).isEmpty())) {
+                    return false;
+                }
+            } catch (PathNotFoundException e) {
+                return false;
+            } catch (RuntimeException e) {
+                // Body is not JSON at all
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of request conditions, used to prefer the most specific stub on a path
+     */
+    int specificity() {
+        return headerConditions.size() + queryConditions.size() + (bodyPath != null ? 1 : 0);
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPathTemplate() {
+        return pathTemplate;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public byte[] getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * File the body is served from, or null for an in-memory body
+     */
+    public Path getBodyFile() {
+        return bodyFile;
+    }
+
+    public Map<String, String> getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    /**
+     * Delay for the next response, 0 when no latency is configured
+     */
+    public long sampleDelayMs() {
+        return latency != null ? Math.max(0, latency.sampleMillis()) : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StubMapping{%s %s%s -> %d%s}", method, pathTemplate,
+                queryConditions.isEmpty() ? "" : "?" + queryConditions, statusCode,
+                bodyPattern != null ? ", body=" + bodyPattern : bodyFile != null ? ", file=" + bodyFile : "");
+    }
+}
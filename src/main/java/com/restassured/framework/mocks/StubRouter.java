@@ -0,0 +1,126 @@
+package com.restassured.framework.mocks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routing index for stubs: one path trie per HTTP method.
+ * Literal segments are looked up by hash, {param} segments share a single
+ * wildcard child, so finding the candidates for a request costs one map
+ * lookup per path segment regardless of how many stubs are registered.
+ */
+public class StubRouter {
+    private final Map<String, Node> roots = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Register a stub. Later registrations win over earlier ones with the same
+     * conditions; stubs with more conditions win over less specific ones.
+     */
+    public void add(StubMapping stub) {
+        Node node = roots.computeIfAbsent(stub.getMethod(), m -> new Node());
+        for (String segment : splitPath(stub.getPathTemplate())) {
+            node = isParam(segment) ? node.paramChild() : node.literalChild(segment);
+        }
+        node.addStub(stub);
+        size.incrementAndGet();
+    }
+
+    /**
+     * Find the stub for a request, or null if nothing matches
+     */
+    public StubMapping find(MockRequest request) {
+        Node root = roots.get(request.getMethod());
+        if (root == null) {
+            return null;
+        }
+        return find(root, splitPath(request.getPath()), 0, request);
+    }
+
+    private StubMapping find(Node node, String[] segments, int index, MockRequest request) {
+        if (index == segments.length) {
+            return node.match(request);
+        }
+        // Literal segments take precedence over {param} segments
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            StubMapping stub = find(literal, segments, index + 1, request);
+            if (stub != null) {
+                return stub;
+            }
+        }
+        Node param = node.param;
+        return param != null ? find(param, segments, index + 1, request) : null;
+    }
+
+    public void clear() {
+        roots.clear();
+        size.set(0);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    static String[] splitPath(String path) {
+        int end = path.indexOf('?');
+        String trimmed = end >= 0 ? path.substring(0, end) : path;
+        int start = 0;
+        int stop = trimmed.length();
+        while (start < stop && trimmed.charAt(start) == '/') {
+            start++;
+        }
+        while (stop > start && trimmed.charAt(stop - 1) == '/') {
+            stop--;
+        }
+        return start == stop ? new String[0] : trimmed.substring(start, stop).split("/+");
+    }
+
+    private static boolean isParam(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new ConcurrentHashMap<>();
+        private volatile Node param;
+        // Copy-on-write so readers never see a partially sorted list
+        private volatile List<StubMapping> stubs = new ArrayList<>();
+
+        Node literalChild(String segment) {
+            return literals.computeIfAbsent(segment, s -> new Node());
+        }
+
+        synchronized Node paramChild() {
+            if (param == null) {
+                param = new Node();
+            }
+            return param;
+        }
+
+        synchronized void addStub(StubMapping stub) {
+            List<StubMapping> updated = new ArrayList<>(stubs.size() + 1);
+            int insertAt = 0;
+            for (StubMapping existing : stubs) {
+                if (existing.specificity() > stub.specificity()) {
+                    insertAt++;
+                }
+            }
+            updated.addAll(stubs.subList(0, insertAt));
+            updated.add(stub);
+            updated.addAll(stubs.subList(insertAt, stubs.size()));
+            stubs = updated;
+        }
+
+        StubMapping match(MockRequest request) {
+            for (StubMapping stub : stubs) {
+                if (stub.matches(request)) {
+                    return stub;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.restassured.framework.mocks;
+
+/**
+ * Versioned, layered stub table.
+ * New stubs always go into a mutable top layer; taking a snapshot freezes
+ * that layer and stacks a fresh one on top, so a snapshot is never modified
+ * afterwards. Rolling back to a snapshot is just a new empty layer on top of
+ * it, which costs O(1) no matter how many stubs were registered since.
+ * Stubs in newer layers shadow matching stubs in older ones.
+ */
+public class StubTable {
+    private final StubRouter top = new StubRouter();
+    private final Snapshot base;
+
+    private StubTable(Snapshot base) {
+        this.base = base;
+    }
+
+    /**
+     * Table with no stubs at all
+     */
+    public static StubTable empty() {
+        return new StubTable(Snapshot.EMPTY);
+    }
+
+    /**
+     * Fresh writable table layered on top of a snapshot
+     */
+    public static StubTable on(Snapshot snapshot) {
+        return new StubTable(snapshot);
+    }
+
+    void add(StubMapping stub) {
+        top.add(stub);
+    }
+
+    public StubMapping find(MockRequest request) {
+        StubMapping stub = top.find(request);
+        for (Snapshot layer = base; stub == null && layer != null; layer = layer.parent) {
+            stub = layer.router.find(request);
+        }
+        return stub;
+    }
+
+    /**
+     * Freeze the top layer; the caller must stop writing to this table afterwards
+     */
+    Snapshot freeze() {
+        // Empty layers are skipped so repeated snapshots do not lengthen the lookup chain
+        return top.size() == 0 ? base : new Snapshot(top, base);
+    }
+
+    public int size() {
+        return top.size() + base.size;
+    }
+
+    /**
+     * Immutable point-in-time view of the stub table
+     */
+    public static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(new StubRouter(), null);
+        private final StubRouter router;
+        private final Snapshot parent;
+        private final int version;
+        private final int size;
+
+        private Snapshot(StubRouter router, Snapshot parent) {
+            this.router = router;
+            this.parent = parent;
+            this.version = parent != null ? parent.version + 1 : 0;
+            this.size = router.size() + (parent != null ? parent.size : 0);
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "StubTable.Snapshot{version=" + version + ", stubs=" + size + "}";
+        }
+    }
+}
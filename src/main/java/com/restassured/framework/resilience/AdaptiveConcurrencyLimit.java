@@ -0,0 +1,206 @@
+package com.restassured.framework.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-flight request limit that adapts to the latency the backend shows, in the
+ * style of TCP Vegas. The fastest round trip seen so far stands for the
+ * unloaded service time; from each sample the limit estimates how many
+ * requests are queueing in the backend (limit * (1 - minRtt / rtt)). Few
+ * queued requests grow the limit, many shrink it, and failures or overload
+ * responses cut it at once. minRtt is re-probed periodically so a backend
+ * that got slower for good is not throttled forever.
+ */
+public class AdaptiveConcurrencyLimit {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimit.class);
+    private static final int PROBE_MULTIPLIER = 30;
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final ArrayDeque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long minRttNanos;
+    private long samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimit(String name, int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format("Invalid concurrency limit %d (min %d, max %d)", initialLimit, minLimit, maxLimit));
+        }
+        this.name = name;
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+     * Block until a request may be sent; the permit must be released when it completes
+     */
+    public Permit acquire() throws InterruptedException {
+        CompletableFuture<Permit> permit = acquireAsync();
+        try {
+            return permit.get();
+        } catch (InterruptedException e) {
+            // Hand the slot back if it was granted while we were being interrupted
+            if (!permit.cancel(false)) {
+                permit.join().release(false);
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Concurrency permit failed", e.getCause());
+        }
+    }
+
+    /**
+     * Permit if a slot is free right now and nobody is queued for one, otherwise null
+     */
+    public Permit tryAcquire() {
+        synchronized (this) {
+            if (!waiters.isEmpty() || inFlight >= (int) limit) {
+                return null;
+            }
+            inFlight++;
+        }
+        return new Permit();
+    }
+
+    /**
+     * Future completed with a permit once a slot is free, in arrival order
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        CompletableFuture<Permit> permit = new CompletableFuture<>();
+        synchronized (this) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+            } else {
+                waiters.add(permit);
+                return permit;
+            }
+        }
+        permit.complete(new Permit());
+        return permit;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waiters.size();
+    }
+
+    /**
+     * Fastest round trip seen since the last probe, in milliseconds
+     */
+    public synchronized double getMinRttMs() {
+        return minRttNanos / 1_000_000.0;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void onComplete(long rttNanos, boolean dropped) {
+        List<CompletableFuture<Permit>> granted = new ArrayList<>();
+        synchronized (this) {
+            int sampleInFlight = inFlight;
+            inFlight--;
+            update(rttNanos, dropped, sampleInFlight);
+            while (inFlight < (int) limit && !waiters.isEmpty()) {
+                CompletableFuture<Permit> waiter = waiters.poll();
+                if (!waiter.isDone()) {
+                    inFlight++;
+                    granted.add(waiter);
+                }
+            }
+        }
+        // Complete outside the lock, dependent stages may run on this thread
+        for (CompletableFuture<Permit> waiter : granted) {
+            if (!waiter.complete(new Permit())) {
+                onCancelledGrant();
+            }
+        }
+    }
+
+    private synchronized void onCancelledGrant() {
+        inFlight--;
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            CompletableFuture<Permit> waiter = waiters.poll();
+            if (!waiter.isDone() && waiter.complete(new Permit())) {
+                inFlight++;
+            }
+        }
+    }
+
+    private void update(long rttNanos, boolean dropped, int sampleInFlight) {
+        double previous = limit;
+        if (++samplesSinceProbe > PROBE_MULTIPLIER * (long) Math.max(limit, 1)) {
+            // Forget the unloaded estimate now and then and relearn it from fresh samples
+            samplesSinceProbe = 0;
+            minRttNanos = 0;
+        }
+        if (dropped) {
+            limit = Math.max(minLimit, limit - step(limit) * 2);
+        } else if (minRttNanos == 0 || rttNanos < minRttNanos) {
+            minRttNanos = Math.max(rttNanos, 1);
+            return;
+        } else if (sampleInFlight * 2 < limit) {
+            // The caller is not using the limit, samples say nothing about it
+            return;
+        } else {
+            double step = step(limit);
+            double queued = limit * (1 - (double) minRttNanos / rttNanos);
+            if (queued <= step) {
+                limit += 6 * step;
+            } else if (queued < 3 * step) {
+                limit += step;
+            } else if (queued > 6 * step) {
+                limit -= step;
+            }
+            limit = Math.max(minLimit, Math.min(maxLimit, limit));
+        }
+        if ((int) limit != (int) previous) {
+            logger.debug("Concurrency limit for {}: {} -> {} (rtt {} ms, min rtt {} ms{})", name, (int) previous, (int) limit,
+                    TimeUnit.NANOSECONDS.toMillis(rttNanos), TimeUnit.NANOSECONDS.toMillis(minRttNanos), dropped ? ", dropped" : "");
+        }
+    }
+
+    private static double step(double limit) {
+        return Math.max(1, Math.log10(limit));
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("AdaptiveConcurrencyLimit{%s, limit=%d, inFlight=%d, queued=%d}", name, (int) limit, inFlight, waiters.size());
+    }
+
+    /**
+     * Slot for one request; release it exactly once with the outcome
+     */
+    public final class Permit {
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        /**
+         * Give the slot back; dropped marks failures and overload responses that should shrink the limit
+         */
+        public void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                onComplete(System.nanoTime() - startNanos, dropped);
+            }
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.restassured.framework.resilience;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Circuit breaker for one endpoint. While CLOSED it keeps the outcome of the
+ * last calls in a ring buffer; once enough of them failed or were slow it
+ * OPENs and rejects calls without touching the network. After the open
+ * duration it lets a few probe calls through (HALF_OPEN): if they succeed the
+ * circuit closes again, otherwise it re-opens.
+ */
+public class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+    // Outcome bits kept per call in the ring buffer
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final byte SLOW = 2;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final Settings settings;
+    private final Consumer<Transition> transitionListener;
+    private final byte[] outcomes;
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private int slowCalls;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private String lastFailure;
+    private String openReason;
+    private Throwable lastFailureCause;
+
+    public CircuitBreaker(String name, Settings settings, Consumer<Transition> transitionListener) {
+        this.name = name;
+        this.settings = settings;
+        this.transitionListener = transitionListener;
+        this.outcomes = new byte[settings.windowSize];
+    }
+
+    /**
+     * Let a call through or fail fast with {@link CircuitOpenException}
+     */
+    public void acquirePermission() {
+        Transition transition = null;
+        try {
+            synchronized (this) {
+                if (state == State.OPEN) {
+                    long openNanos = System.nanoTime() - openedAtNanos;
+                    if (openNanos < TimeUnit.MILLISECONDS.toNanos(settings.openDurationMs)) {
+                        throw new CircuitOpenException(name, openMessage(openNanos), lastFailureCause);
+                    }
+                    transition = transitionTo(State.HALF_OPEN, "open for " + settings.openDurationMs + " ms, probing");
+                }
+                if (state == State.HALF_OPEN) {
+                    if (probesInFlight + probeSuccesses >= settings.halfOpenCalls) {
+                        throw new CircuitOpenException(name, String.format("Circuit half-open for %s (%s), waiting for %d probe call(s)",
+                                name, openReason, probesInFlight), lastFailureCause);
+                    }
+                    probesInFlight++;
+                }
+            }
+        } finally {
+            report(transition);
+        }
+    }
+
+    /**
+     * Give back a permission that was never used for a call
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(durationNanos, false, null, null);
+    }
+
+    /**
+     * Record a failed call; description is what the open circuit will report as its cause
+     */
+    public void onFailure(long durationNanos, String description, Throwable cause) {
+        record(durationNanos, true, description, cause);
+    }
+
+    private void record(long durationNanos, boolean failed, String description, Throwable cause) {
+        boolean slow = durationNanos >= TimeUnit.MILLISECONDS.toNanos(settings.slowCallDurationMs);
+        Transition transition = null;
+        synchronized (this) {
+            if (failed) {
+                lastFailure = description;
+                lastFailureCause = cause;
+            }
+            if (state == State.HALF_OPEN) {
+                probesInFlight = Math.max(0, probesInFlight - 1);
+                if (failed || slow) {
+                    transition = open((failed ? "probe failed: " + description : "probe slow: "
+                            + TimeUnit.NANOSECONDS.toMillis(durationNanos) + " ms"));
+                } else if (++probeSuccesses >= settings.halfOpenCalls) {
+                    transition = transitionTo(State.CLOSED, probeSuccesses + " probe call(s) succeeded");
+                }
+            } else if (state == State.CLOSED) {
+                transition = recordClosed((byte) ((failed ? FAILURE : SUCCESS) | (slow ? SLOW : SUCCESS)));
+            }
+            // Calls that were already in flight when the circuit opened do not count
+        }
+        report(transition);
+    }
+
+    private Transition recordClosed(byte outcome) {
+        if (recorded == outcomes.length) {
+            byte evicted = outcomes[next];
+            failures -= evicted & FAILURE;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            recorded++;
+        }
+        outcomes[next] = outcome;
+        next = (next + 1) % outcomes.length;
+        failures += outcome & FAILURE;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (recorded < settings.minimumCalls) {
+            return null;
+        }
+        if (failures * 100 >= settings.failureRateThreshold * recorded) {
+            return open(String.format("%d of %d recent calls failed, last: %s", failures, recorded, lastFailure));
+        }
+        if (slowCalls * 100 >= settings.slowCallRateThreshold * recorded) {
+            return open(String.format("%d of %d recent calls took over %d ms", slowCalls, recorded, settings.slowCallDurationMs));
+        }
+        return null;
+    }
+
+    private Transition open(String reason) {
+        openedAtNanos = System.nanoTime();
+        openReason = reason;
+        return transitionTo(State.OPEN, reason);
+    }
+
+    private Transition transitionTo(State target, String reason) {
+        Transition transition = new Transition(name, state, target, reason);
+        state = target;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (target == State.CLOSED) {
+            recorded = 0;
+            next = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+        return transition;
+    }
+
+    private void report(Transition transition) {
+        if (transition == null) {
+            return;
+        }
+        if (transition.getTo() == State.CLOSED) {
+            logger.info("Circuit breaker {}", transition);
+        } else {
+            logger.warn("Circuit breaker {}", transition);
+        }
+        if (transitionListener != null) {
+            transitionListener.accept(transition);
+        }
+    }
+
+    private String openMessage(long openNanos) {
+        long retryInMs = settings.openDurationMs - TimeUnit.NANOSECONDS.toMillis(openNanos);
+        return String.format("Circuit open for %s (%s), failing fast for another %d ms", name, openReason, retryInMs);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("CircuitBreaker{%s, %s, failures=%d, slow=%d of %d}", name, state, failures, slowCalls, recorded);
+    }
+
+    /**
+     * Thresholds shared by all breakers of a registry
+     */
+    public static class Settings {
+        private final int failureRateThreshold;
+        private final int slowCallRateThreshold;
+        private final long slowCallDurationMs;
+        private final int windowSize;
+        private final int minimumCalls;
+        private final long openDurationMs;
+        private final int halfOpenCalls;
+
+        /**
+         * @param failureRateThreshold  percentage of failed calls in the window that opens the circuit
+         * @param slowCallRateThreshold percentage of calls slower than slowCallDurationMs that opens the circuit
+         * @param windowSize            number of recent calls considered
+         * @param minimumCalls          calls needed in the window before the rates are evaluated
+         * @param openDurationMs        how long to fail fast before probing
+         * @param halfOpenCalls         probe calls that must succeed to close the circuit again
+         */
+        public Settings(int failureRateThreshold, int slowCallRateThreshold, long slowCallDurationMs,
+                        int windowSize, int minimumCalls, long openDurationMs, int halfOpenCalls) {
+            if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize || halfOpenCalls < 1) {
+                throw new IllegalArgumentException(String.format("Invalid circuit breaker window %d, minimum calls %d, half-open calls %d",
+                        windowSize, minimumCalls, halfOpenCalls));
+            }
+            this.failureRateThreshold = failureRateThreshold;
+            this.slowCallRateThreshold = slowCallRateThreshold;
+            this.slowCallDurationMs = slowCallDurationMs;
+            this.windowSize = windowSize;
+            this.minimumCalls = minimumCalls;
+            this.openDurationMs = openDurationMs;
+            this.halfOpenCalls = halfOpenCalls;
+        }
+    }
+
+    /**
+     * A state change of one breaker
+     */
+    public static class Transition {
+        private final String name;
+        private final State from;
+        private final State to;
+        private final String reason;
+        private final Instant at = Instant.now();
+
+        Transition(String name, State from, State to, String reason) {
+            this.name = name;
+            this.from = from;
+            this.to = to;
+            this.reason = reason;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public State getFrom() {
+            return from;
+        }
+
+        public State getTo() {
+            return to;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public Instant getAt() {
+            return at;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %s -> %s (%s)", name, from, to, reason);
+        }
+    }
+}
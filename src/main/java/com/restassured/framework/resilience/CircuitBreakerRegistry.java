@@ -0,0 +1,107 @@
+package com.restassured.framework.resilience;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.metrics.EndpointKey;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsWriter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * One circuit breaker per method and endpoint template, shared by all
+ * RestApiClient instances in the process. Every state transition is kept so
+ * the run report can show when and why an endpoint was cut off.
+ */
+public class CircuitBreakerRegistry {
+    private static volatile CircuitBreakerRegistry instance;
+    private final boolean enabled;
+    private final CircuitBreaker.Settings settings;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final List<CircuitBreaker.Transition> transitions = new CopyOnWriteArrayList<>();
+
+    public CircuitBreakerRegistry(boolean enabled, CircuitBreaker.Settings settings) {
+        this.enabled = enabled;
+        this.settings = settings;
+    }
+
+    /**
+     * Process-wide registry configured from the circuit.breaker.* properties
+     */
+    public static CircuitBreakerRegistry getInstance() {
+        if (instance == null) {
+            synchronized (CircuitBreakerRegistry.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    CircuitBreakerRegistry registry = new CircuitBreakerRegistry(
+                            config.getBooleanProperty("circuit.breaker.enabled", false),
+                            new CircuitBreaker.Settings(
+                                    config.getIntProperty("circuit.breaker.failure.rate.threshold", 50),
+                                    config.getIntProperty("circuit.breaker.slow.call.rate.threshold", 80),
+                                    config.getIntProperty("circuit.breaker.slow.call.duration.ms", 10000),
+                                    config.getIntProperty("circuit.breaker.window.size", 20),
+                                    config.getIntProperty("circuit.breaker.minimum.calls", 5),
+                                    config.getIntProperty("circuit.breaker.open.duration.ms", 30000),
+                                    config.getIntProperty("circuit.breaker.half.open.calls", 2)));
+                    if (registry.isEnabled()) {
+                        MetricsRegistry.getInstance().register(registry::collect);
+                    }
+                    instance = registry;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Breaker for a request, or null when circuit breaking is disabled
+     */
+    public CircuitBreaker forEndpoint(String method, String endpoint) {
+        if (!enabled) {
+            return null;
+        }
+        String name = method + " " + EndpointKey.templateOf(endpoint);
+        return breakers.computeIfAbsent(name, n -> new CircuitBreaker(n, settings, transitions::add));
+    }
+
+    public Map<String, CircuitBreaker> getBreakers() {
+        return Collections.unmodifiableMap(breakers);
+    }
+
+    /**
+     * All state transitions so far, oldest first
+     */
+    public List<CircuitBreaker.Transition> getTransitions() {
+        return Collections.unmodifiableList(transitions);
+    }
+
+    /**
+     * Transitions as a table for the report, header row first
+     */
+    public String[][] transitionTable() {
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"Time", "Endpoint", "From", "To", "Reason"});
+        for (CircuitBreaker.Transition transition : transitions) {
+            rows.add(new String[]{transition.getAt().toString(), transition.getName(),
+                    transition.getFrom().name(), transition.getTo().name(), transition.getReason()});
+        }
+        return rows.toArray(new String[0][]);
+    }
+
+    private void collect(OpenMetricsWriter writer) {
+        writer.family("api_client_circuit_state", "gauge", "Circuit breaker state per endpoint: 0 closed, 1 open, 2 half-open");
+        breakers.forEach((name, breaker) -> {
+            String[] parts = name.split(" ", 2);
+            writer.sample("api_client_circuit_state", "api_client_circuit_state", breaker.getState().ordinal(),
+                    "method", parts[0], "endpoint", parts[1]);
+        });
+    }
+}
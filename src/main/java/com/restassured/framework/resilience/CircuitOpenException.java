@@ -0,0 +1,23 @@
+package com.restassured.framework.resilience;
+
+import com.restassured.framework.core.ApiException;
+
+/**
+ * Thrown instead of sending a request while the endpoint's circuit is open.
+ * The message says why the circuit opened; the cause is the last failure seen.
+ */
+public class CircuitOpenException extends ApiException {
+    private final String endpoint;
+
+    public CircuitOpenException(String endpoint, String message, Throwable cause) {
+        super(message, cause);
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * Method and endpoint template the circuit belongs to, e.g. "GET /users/{id}"
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,86 @@
+package com.restassured.framework.resilience;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsWriter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive in-flight limits per host, shared by all RestApiClient instances
+ * in the process. Disabled by default; enable with concurrency.adaptive.enabled
+ * and bound the limit with concurrency.limit.initial, .min and .max.
+ */
+public class ConcurrencyLimiter {
+    private static volatile ConcurrencyLimiter instance;
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimiter(boolean enabled, int initialLimit, int minLimit, int maxLimit) {
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    public static ConcurrencyLimiter getInstance() {
+        if (instance == null) {
+            synchronized (ConcurrencyLimiter.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                            config.getBooleanProperty("concurrency.adaptive.enabled", false),
+                            config.getIntProperty("concurrency.limit.initial", 10),
+                            config.getIntProperty("concurrency.limit.min", 1),
+                            config.getIntProperty("concurrency.limit.max", 200));
+                    if (limiter.isEnabled()) {
+                        MetricsRegistry.getInstance().register(limiter::collect);
+                    }
+                    instance = limiter;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Block until a request to the host may be sent; null when limiting is disabled
+     */
+    public AdaptiveConcurrencyLimit.Permit acquire(String host) throws InterruptedException {
+        return enabled ? limitFor(host).acquire() : null;
+    }
+
+    /**
+     * Permit for a request to the host once a slot is free; completes with null when limiting is disabled
+     */
+    public CompletableFuture<AdaptiveConcurrencyLimit.Permit> acquireAsync(String host) {
+        return enabled ? limitFor(host).acquireAsync() : CompletableFuture.completedFuture(null);
+    }
+
+    public AdaptiveConcurrencyLimit limitFor(String host) {
+        return limits.computeIfAbsent(host, h -> new AdaptiveConcurrencyLimit(h, initialLimit, minLimit, maxLimit));
+    }
+
+    public Map<String, AdaptiveConcurrencyLimit> getLimits() {
+        return Collections.unmodifiableMap(limits);
+    }
+
+    private void collect(OpenMetricsWriter writer) {
+        writer.family("api_client_concurrency_limit", "gauge", "Current adaptive in-flight limit per host");
+        writer.family("api_client_in_flight", "gauge", "Requests currently in flight per host");
+        limits.forEach((host, limit) -> {
+            writer.sample("api_client_concurrency_limit", "api_client_concurrency_limit", limit.getLimit(), "host", host);
+            writer.sample("api_client_in_flight", "api_client_in_flight", limit.getInFlight(), "host", host);
+        });
+    }
+}
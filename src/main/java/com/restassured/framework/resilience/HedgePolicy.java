@@ -0,0 +1,150 @@
+package com.restassured.framework.resilience;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.metrics.EndpointKey;
+import com.restassured.framework.metrics.LatencyHistogram;
+import com.restassured.framework.metrics.LatencyRegistry;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsWriter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * When and how often RestApiClient may hedge a request: a GET that has not
+ * answered within the endpoint's recorded latency percentile gets a second,
+ * identical request, and whichever answers first wins. The hedge budget caps
+ * hedges at a percentage of hedgeable requests, so a backend that is slow
+ * across the board does not get twice the load.
+ */
+public class HedgePolicy {
+    private static volatile HedgePolicy instance;
+    private final boolean enabled;
+    private final double percentile;
+    private final long minSamples;
+    private final long fallbackDelayMs;
+    private final long minDelayMs;
+    private final int budgetPercent;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong hedges = new AtomicLong();
+    private final AtomicLong hedgeWins = new AtomicLong();
+
+    /**
+     * @param percentile      latency percentile of the endpoint's successful requests to wait before hedging
+     * @param minSamples      recorded requests needed before the percentile is trusted
+     * @param fallbackDelayMs delay used until then
+     * @param minDelayMs      lower bound for the delay, so fast endpoints are not hedged on noise
+     * @param budgetPercent   hedges allowed per 100 hedgeable requests
+     */
+    public HedgePolicy(boolean enabled, double percentile, long minSamples, long fallbackDelayMs, long minDelayMs, int budgetPercent) {
+        if (percentile <= 0 || percentile > 100 || budgetPercent < 0) {
+            throw new IllegalArgumentException(String.format("Invalid hedge policy: p%s, budget %d%%", percentile, budgetPercent));
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minSamples = minSamples;
+        this.fallbackDelayMs = fallbackDelayMs;
+        this.minDelayMs = minDelayMs;
+        this.budgetPercent = budgetPercent;
+    }
+
+    /**
+     * Process-wide policy configured from the hedge.* properties
+     */
+    public static HedgePolicy getInstance() {
+        if (instance == null) {
+            synchronized (HedgePolicy.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    HedgePolicy policy = new HedgePolicy(
+                            config.getBooleanProperty("hedge.enabled", false),
+                            Double.parseDouble(config.getProperty("hedge.percentile", "95")),
+                            config.getIntProperty("hedge.min.samples", 20),
+                            config.getIntProperty("hedge.delay.ms", 200),
+                            config.getIntProperty("hedge.min.delay.ms", 5),
+                            config.getIntProperty("hedge.budget.percent", 10));
+                    if (policy.isEnabled()) {
+                        MetricsRegistry.getInstance().register(policy::collect);
+                    }
+                    instance = policy;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Only idempotent reads are hedged
+     */
+    public boolean appliesTo(String method) {
+        return enabled && ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method));
+    }
+
+    /**
+     * Count a hedgeable request and return how long to wait for it before hedging
+     */
+    public long delayNanos(String method, String endpoint) {
+        requests.incrementAndGet();
+        LatencyHistogram histogram = LatencyRegistry.getInstance()
+                .get(new EndpointKey(method, EndpointKey.templateOf(endpoint), "2xx"));
+        long delayMicros = TimeUnit.MILLISECONDS.toMicros(fallbackDelayMs);
+        if (histogram != null && histogram.getTotalCount() >= minSamples) {
+            delayMicros = histogram.getValueAtPercentile(percentile);
+        }
+        return TimeUnit.MICROSECONDS.toNanos(Math.max(delayMicros, TimeUnit.MILLISECONDS.toMicros(minDelayMs)));
+    }
+
+    /**
+     * Take a hedge from the budget; false when hedging now would exceed it
+     */
+    public boolean tryAcquireHedge() {
+        while (true) {
+            long sent = hedges.get();
+            if (sent * 100 >= budgetPercent * requests.get()) {
+                return false;
+            }
+            if (hedges.compareAndSet(sent, sent + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Give back a hedge taken from the budget that was not sent after all
+     */
+    public void releaseHedge() {
+        hedges.decrementAndGet();
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.incrementAndGet();
+    }
+
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getHedges() {
+        return hedges.get();
+    }
+
+    /**
+     * Hedges that answered before the original request
+     */
+    public long getHedgeWins() {
+        return hedgeWins.get();
+    }
+
+    private void collect(OpenMetricsWriter writer) {
+        writer.family("api_client_hedged_requests", "counter", "Hedgeable requests seen by RestApiClient");
+        writer.sample("api_client_hedged_requests", "api_client_hedged_requests_total", requests.get());
+        writer.family("api_client_hedges", "counter", "Hedge requests sent");
+        writer.sample("api_client_hedges", "api_client_hedges_total", hedges.get());
+        writer.family("api_client_hedge_wins", "counter", "Hedge requests that answered first");
+        writer.sample("api_client_hedge_wins", "api_client_hedge_wins_total", hedgeWins.get());
+    }
+}
@@ -0,0 +1,217 @@
+package com.restassured.framework.resilience;
+
+import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.core.ApiException;
+import com.restassured.framework.metrics.EndpointKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Client-side rate limits per host and per endpoint template, shared by all
+ * RestApiClient instances in the process so parallel tests stay under a
+ * gateway's limits together. A request waits for the later of its host slot
+ * and its endpoint slot. Rules are configured as ';'-separated lists:
+ * <pre>
+ * rate.limit.hosts=api.production.com 50/s burst 10; * 100/s
+ * rate.limit.endpoints=POST /users 5/s; GET /users/{id} 20/s burst 5
+ * </pre>
+ * "*" is the default for hosts not listed; an endpoint rule without a method applies to all methods.
+ */
+public class RateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimiter.class);
+    private static final Pattern RULE = Pattern.compile(
+            "(?i)\\s*(?:([A-Z]+)\\s+)?(\\S+)\\s+(\\d+(?:\\.\\d+)?)\\s*/\\s*s(?:\\s+burst\\s+(\\d+))?\\s*");
+    private static volatile RateLimiter instance;
+    private final Map<String, Rule> hostRules;
+    private final List<Rule> endpointRules;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong throttledNanos = new AtomicLong();
+
+    public RateLimiter(String hostRules, String endpointRules) {
+        Map<String, Rule> hosts = new ConcurrentHashMap<>();
+        for (Rule rule : parseRules(hostRules)) {
+            if (rule.method != null) {
+                throw new IllegalArgumentException("Host rate limit must not name a method: " + rule);
+            }
+            hosts.put(rule.target.toLowerCase(Locale.ROOT), rule);
+        }
+        this.hostRules = hosts;
+        this.endpointRules = Collections.unmodifiableList(parseRules(endpointRules));
+    }
+
+    /**
+     * Process-wide limiter configured from rate.limit.hosts and rate.limit.endpoints
+     */
+    public static RateLimiter getInstance() {
+        if (instance == null) {
+            synchronized (RateLimiter.class) {
+                if (instance == null) {
+                    ConfigManager config = ConfigManager.getInstance();
+                    instance = new RateLimiter(config.getProperty("rate.limit.hosts", ""), config.getProperty("rate.limit.endpoints", ""));
+                }
+            }
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return !hostRules.isEmpty() || !endpointRules.isEmpty();
+    }
+
+    /**
+     * Reserve slots for a request; returns the nanoseconds to wait before sending it
+     */
+    public long reserve(String host, String method, String endpoint) {
+        if (!isEnabled()) {
+            return 0;
+        }
+        String normalizedHost = host != null ? host.toLowerCase(Locale.ROOT) : "";
+        long wait = 0;
+        Rule hostRule = hostRules.getOrDefault(normalizedHost, hostRules.get("*"));
+        if (hostRule != null) {
+            wait = bucket("host " + normalizedHost, hostRule).reserve();
+        }
+        String template = EndpointKey.templateOf(endpoint);
+        for (Rule rule : endpointRules) {
+            if (rule.matches(method, template)) {
+                wait = Math.max(wait, bucket(normalizedHost + " " + rule.key(), rule).reserve());
+                break;
+            }
+        }
+        if (wait > 0) {
+            throttled.incrementAndGet();
+            throttledNanos.addAndGet(wait);
+        }
+        return wait;
+    }
+
+    /**
+     * Take the request's slots only if they are free right now. Buckets are checked host first, so a
+     * host token may be spent when the endpoint bucket is empty; that only errs on the slow side.
+     */
+    public boolean tryAcquire(String host, String method, String endpoint) {
+        if (!isEnabled()) {
+            return true;
+        }
+        String normalizedHost = host != null ? host.toLowerCase(Locale.ROOT) : "";
+        Rule hostRule = hostRules.getOrDefault(normalizedHost, hostRules.get("*"));
+        if (hostRule != null && !bucket("host " + normalizedHost, hostRule).tryAcquire()) {
+            return false;
+        }
+        String template = EndpointKey.templateOf(endpoint);
+        for (Rule rule : endpointRules) {
+            if (rule.matches(method, template)) {
+                return bucket(normalizedHost + " " + rule.key(), rule).tryAcquire();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Block until the request may be sent; an interrupted wait keeps the interrupt flag and throws ApiException
+     */
+    public void acquire(String host, String method, String endpoint) {
+        long wait = reserve(host, method, endpoint);
+        if (wait > 0) {
+            logger.debug("Rate limit: delaying {} {} by {} ms", method, endpoint, TimeUnit.NANOSECONDS.toMillis(wait));
+            long deadline = System.nanoTime() + wait;
+            long remaining;
+            while ((remaining = deadline - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(remaining);
+                if (Thread.interrupted()) {
+                    Thread.currentThread().interrupt();
+                    throw new ApiException(method + " request interrupted while waiting for a rate limit slot");
+                }
+            }
+        }
+    }
+
+    /**
+     * Future completed when the request may be sent, without holding a thread while waiting
+     */
+    public CompletableFuture<Void> acquireAsync(String host, String method, String endpoint) {
+        long wait = reserve(host, method, endpoint);
+        if (wait == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Requests that had to wait for a slot
+     */
+    public long getThrottledCount() {
+        return throttled.get();
+    }
+
+    public long getThrottledMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(throttledNanos.get());
+    }
+
+    private TokenBucket bucket(String key, Rule rule) {
+        return buckets.computeIfAbsent(key, k -> {
+            logger.info("Rate limit for {}: {}", k, rule);
+            return new TokenBucket(rule.rate, rule.burst);
+        });
+    }
+
+    private static List<Rule> parseRules(String rules) {
+        List<Rule> parsed = new ArrayList<>();
+        if (rules == null) {
+            return parsed;
+        }
+        for (String rule : rules.split(";")) {
+            if (rule.trim().isEmpty()) {
+                continue;
+            }
+            Matcher matcher = RULE.matcher(rule);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("Invalid rate limit '" + rule.trim() + "', expected e.g. 'GET /users/{id} 20/s burst 5'");
+            }
+            parsed.add(new Rule(matcher.group(1), matcher.group(2), Double.parseDouble(matcher.group(3)),
+                    matcher.group(4) != null ? Integer.parseInt(matcher.group(4)) : 1));
+        }
+        return parsed;
+    }
+
+    private static final class Rule {
+        private final String method;
+        private final String target;
+        private final double rate;
+        private final int burst;
+
+        Rule(String method, String target, double rate, int burst) {
+            this.method = method != null ? method.toUpperCase(Locale.ROOT) : null;
+            this.target = target.startsWith("/") ? EndpointKey.templateOf(target) : target;
+            this.rate = rate;
+            this.burst = burst;
+        }
+
+        boolean matches(String requestMethod, String template) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && target.equals(template);
+        }
+
+        String key() {
+            return (method != null ? method : "*") + " " + target;
+        }
+
+        @Override
+        public String toString() {
+            return (method != null ? method + " " : "") + target + " " + rate + "/s burst " + burst;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.restassured.framework.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket implemented as a generic cell rate algorithm (GCRA): the whole
+ * state is one theoretical arrival time, so taking a token is a single
+ * compare-and-set and never blocks other threads. Callers reserve a slot and
+ * are told how long to wait for it, which serves blocking and async waits alike.
+ */
+public class TokenBucket {
+    private final double ratePerSecond;
+    private final int burst;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException(String.format("Invalid token bucket: %s/s, burst %d", ratePerSecond, burst));
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.toleranceNanos = intervalNanos * (burst - 1);
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * Reserve the next slot; returns how many nanoseconds to wait before using it (0 when a token is available)
+     */
+    public long reserve() {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long now = System.nanoTime();
+            long next = Math.max(tat, now) + intervalNanos;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return Math.max(0, tat - toleranceNanos - now);
+            }
+        }
+    }
+
+    /**
+     * Take a token only if one is available right now
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long now = System.nanoTime();
+            if (tat - toleranceNanos - now > 0) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, Math.max(tat, now) + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s/s burst %d", ratePerSecond, burst);
+    }
+}
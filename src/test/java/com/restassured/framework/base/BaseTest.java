@@ -1,8 +1,22 @@
 package com.restassured.framework.base;
 
 import com.restassured.framework.config.ConfigManager;
+import com.restassured.framework.core.MockNamespace;
 import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.metrics.EndpointKey;
+import com.restassured.framework.metrics.LatencyHistogram;
+import com.restassured.framework.metrics.LatencyRegistry;
+import com.restassured.framework.metrics.OpenMetricsExporter;
+import com.restassured.framework.metrics.PerformanceBaseline;
+import com.restassured.framework.metrics.RegressionGate;
+import com.restassured.framework.metrics.SlaEvaluator;
+import com.restassured.framework.metrics.SlaRule;
 import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.mocks.StubTable;
+import com.restassured.framework.resilience.CircuitBreakerRegistry;
+import com.restassured.framework.scheduling.DataFlowStore;
+import com.restassured.framework.scheduling.Shard;
+import com.restassured.framework.scheduling.ShardReports;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestResult;
@@ -10,11 +24,15 @@ import org.testng.annotations.*;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
-import com.aventstack.extentreports.reporter.ExtentSparkReporter;
-import com.aventstack.extentreports.reporter.configuration.Theme;
+import com.aventstack.extentreports.reporter.JsonFormatter;
 import com.aventstack.extentreports.markuputils.ExtentColor;
 import com.aventstack.extentreports.markuputils.MarkupHelper;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Base test class providing common functionality for all API tests
@@ -27,6 +45,15 @@ public abstract class BaseTest {
     protected static ExtentReports extent;
     protected static ThreadLocal<ExtentTest> test = new ThreadLocal<>();
     private static String executorName = "Default User";
+    // One mock server per suite; classes and methods layer stubs on top of its baseline
+    private static ApiMockServer suiteMockServer;
+    private static final AtomicLong namespaceSequence = new AtomicLong();
+    private static long suiteStartNanos = System.nanoTime();
+    private static OpenMetricsExporter metricsExporter;
+    // Requests made by this class only, so parallel classes never count towards its SLAs
+    private LatencyRegistry classLatency;
+    // Namespace holding the stubs registered from @BeforeClass methods
+    private String classNamespace;
 
     /**
      * Set the executor name for the test report
@@ -84,24 +111,75 @@ public abstract class BaseTest {
         // Setup mock server if mocking is enabled
         if (configManager.isMockingEnabled()) {
             setupMockServer();
+            // Class-level stubs stay out of the shared tables so other classes never see them
+            classNamespace = getClass().getSimpleName() + "#" + namespaceSequence.incrementAndGet();
+            MockNamespace.set(classNamespace);
         }
+
+        // Class SLAs only see the requests made by this class from here on
+        if (!SlaEvaluator.rulesFor(getClass()).isEmpty()) {
+            classLatency = new LatencyRegistry();
+        }
+        LatencyRegistry.setScope(classLatency);
     }
 
     @AfterClass(alwaysRun = true)
     public void tearDownClass() {
         logger.info("Tearing down test class: {}", this.getClass().getSimpleName());
         
-        if (mockServer != null && mockServer.isRunning()) {
+        ApiMockServer suiteServer;
+        synchronized (BaseTest.class) {
+            suiteServer = suiteMockServer;
+        }
+        if (classNamespace != null && suiteServer != null) {
+            // Drop only this class's stubs and keep the server bound for the next class,
+            // also when the class swapped in a server of its own
+            MockNamespace.set(classNamespace);
+            suiteServer.reset();
+            MockNamespace.clear();
+        }
+        if (mockServer != null && mockServer != suiteServer && mockServer.isRunning()) {
             mockServer.stop();
         }
+        classNamespace = null;
+        DataFlowStore.clear(this.getClass());
+        verifyClassLatencySlas();
+    }
+
+    /**
+     * Evaluate the class's {@link com.restassured.framework.metrics.LatencySla} annotations
+     * over the requests the class made since setUpClass
+     */
+    private void verifyClassLatencySlas() {
+        LatencyRegistry.setScope(null);
+        if (classLatency == null) {
+            return;
+        }
+        Map<EndpointKey, LatencyHistogram> recorded = classLatency.snapshot();
+        classLatency = null;
+        verifyLatencySlas(getClass().getSimpleName(), SlaEvaluator.rulesFor(getClass()), recorded);
+    }
+
+    private void verifyLatencySlas(String scope, List<SlaRule> rules, Map<EndpointKey, LatencyHistogram> histograms) {
+        List<SlaEvaluator.Result> results = SlaEvaluator.evaluate(rules, histograms);
+        List<SlaEvaluator.Result> breaches = SlaEvaluator.breaches(results);
+        if (extent != null) {
+            ExtentTest slaNode = extent.createTest("Latency SLA: " + scope);
+            slaNode.log(breaches.isEmpty() ? Status.PASS : Status.FAIL, MarkupHelper.createTable(SlaEvaluator.reportTable(results)));
+        }
+        for (SlaEvaluator.Result result : results) {
+            logger.info("Latency SLA [{}] {}", scope, result);
+        }
+        if (!breaches.isEmpty()) {
+            throw new AssertionError(SlaEvaluator.breachMessage(scope, breaches));
+        }
     }
 
     @BeforeSuite(alwaysRun = true)
     public void setUpSuite() {
-        ExtentSparkReporter sparkReporter = new ExtentSparkReporter("target/ExtentReports.html");
-        sparkReporter.config().setTheme(Theme.STANDARD);
-        sparkReporter.config().setDocumentTitle("API Test Report");
-        sparkReporter.config().setReportName("REST API Testing");
+        suiteStartNanos = System.nanoTime();
+        metricsExporter = OpenMetricsExporter.startFromConfig(ConfigManager.getInstance());
+        Shard shard = Shard.current();
         extent = new ExtentReports();
         
         // Add system information
@@ -112,16 +190,136 @@ public abstract class BaseTest {
         extent.setSystemInfo("Executor", getExecutorName());
         extent.setSystemInfo("Framework", "REST Assured + TestNG");
         
-        extent.attachReporter(sparkReporter);
+        extent.attachReporter(ShardReports.sparkReporter(ShardReports.htmlReport(shard)));
+        if (shard.isSharded()) {
+            // Archived so the shards can be merged into one report afterwards
+            extent.setSystemInfo("Shard", shard.getName());
+            extent.attachReporter(new JsonFormatter(ShardReports.jsonArchive(shard).toFile()));
+        }
         
         logStep("ExtentReports initialized with system information: " + getSystemInfo());
     }
 
     @AfterSuite(alwaysRun = true)
     public void tearDownSuite() {
+        synchronized (BaseTest.class) {
+            if (suiteMockServer != null) {
+                suiteMockServer.stop();
+                suiteMockServer = null;
+            }
+        }
+        AssertionError failure = null;
+        try {
+            if (metricsExporter != null) {
+                OpenMetricsExporter exporter = metricsExporter;
+                metricsExporter = null;
+                exporter.stop();
+            }
+            try {
+                // Suite-wide SLAs, e.g. latency.sla=GET /users/{id} p99 < 150ms; POST /users p95 < 300ms
+                List<SlaRule> suiteRules = SlaRule.parseAll(ConfigManager.getInstance().getProperty("latency.sla"));
+                if (!suiteRules.isEmpty()) {
+                    verifyLatencySlas("suite", suiteRules, LatencyRegistry.getInstance().snapshot());
+                }
+            } catch (AssertionError e) {
+                failure = e;
+            }
+            try {
+                runPerformanceGate();
+            } catch (AssertionError e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        } finally {
+            // The report is written even when exporting or the performance gate blows up
+            if (extent != null) {
+                attachLatencySummary();
+                attachCircuitBreakerTransitions();
+                extent.flush();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Compare this run's latencies with the environment's baseline, or record a new
+     * baseline when perf.baseline.update is set
+     */
+    private void runPerformanceGate() {
+        ConfigManager config = ConfigManager.getInstance();
+        boolean update = config.getBooleanProperty("perf.baseline.update", false);
+        if (!update && !config.getBooleanProperty("perf.gate.enabled", false)) {
+            return;
+        }
+        Map<EndpointKey, LatencyHistogram> current = LatencyRegistry.getInstance().snapshot();
+        if (current.isEmpty()) {
+            return;
+        }
+        String environment = config.getEnvironment();
+        Path baselineFile = Paths.get(config.getProperty("perf.baseline.dir", "src/test/resources/baselines"), environment + ".json");
+        double durationSeconds = (System.nanoTime() - suiteStartNanos) / 1_000_000_000.0;
+        PerformanceBaseline baseline = PerformanceBaseline.load(baselineFile);
+
+        if (update) {
+            PerformanceBaseline updated = PerformanceBaseline.of(environment, current, durationSeconds, baseline);
+            updated.save(baselineFile);
+            logger.info("Performance baseline revision {} written to {}", updated.getRevision(), baselineFile);
+            return;
+        }
+        if (baseline == null) {
+            logger.warn("No performance baseline at {}; run with -Dperf.baseline.update=true to record one", baselineFile);
+            return;
+        }
+        List<RegressionGate.Comparison> comparisons = RegressionGate.fromConfig(config).compare(baseline, current, durationSeconds);
+        List<RegressionGate.Comparison> regressions = RegressionGate.regressions(comparisons);
         if (extent != null) {
-            extent.flush();
+            ExtentTest gateNode = extent.createTest("Performance Gate: " + environment + " baseline r" + baseline.getRevision());
+            gateNode.log(regressions.isEmpty() ? Status.PASS : Status.FAIL, MarkupHelper.createTable(RegressionGate.reportTable(comparisons)));
+        }
+        for (RegressionGate.Comparison comparison : comparisons) {
+            logger.info("Performance gate {}", comparison);
+        }
+        if (!regressions.isEmpty()) {
+            throw new AssertionError(RegressionGate.regressionMessage(environment, regressions));
+        }
+    }
+
+    /**
+     * Add per-endpoint latency percentiles recorded by RestApiClient to the report
+     */
+    private void attachLatencySummary() {
+        String[][] summary = LatencyRegistry.getInstance().summaryTable();
+        if (summary.length <= 1) {
+            return;
+        }
+        ExtentTest latencyNode = extent.createTest("Latency Summary");
+        latencyNode.info(MarkupHelper.createTable(summary));
+        String[][] phases = LatencyRegistry.getInstance().phaseTable();
+        if (phases.length > 1) {
+            // Slow wait points at the backend, frequent new connections at our side
+            latencyNode.info(MarkupHelper.createTable(phases));
+        }
+        for (int i = 1; i < summary.length; i++) {
+            logger.info("Latency {} {}: count={}, p50={}ms, p90={}ms, p99={}ms, p99.9={}ms, max={}ms",
+                    summary[i][0], summary[i][1], summary[i][2], summary[i][3], summary[i][4], summary[i][5], summary[i][6], summary[i][7]);
+        }
+    }
+
+    /**
+     * Add circuit breaker state changes to the report, so fast failures can be traced to the endpoint that tripped
+     */
+    private void attachCircuitBreakerTransitions() {
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.getInstance();
+        if (circuitBreakers.getTransitions().isEmpty()) {
+            return;
         }
+        ExtentTest breakerNode = extent.createTest("Circuit Breakers");
+        breakerNode.warning(MarkupHelper.createTable(circuitBreakers.transitionTable()));
     }
 
     @BeforeMethod(alwaysRun = true)
@@ -130,9 +328,20 @@ public abstract class BaseTest {
         ExtentTest extentTest = extent.createTest(method.getName());
         
         test.set(extentTest);
-        // Reset mock server if running
+        // Methods may run on other threads than setUpClass
+        LatencyRegistry.setScope(classLatency);
         if (mockServer != null && mockServer.isRunning()) {
-            mockServer.reset();
+            StubTable.Snapshot classStubs = null;
+            if (classNamespace != null) {
+                MockNamespace.set(classNamespace);
+                classStubs = mockServer.snapshot();
+            }
+            // Stubs registered by the method go to its own namespace, isolated from parallel methods,
+            // layered on top of the class's stubs
+            MockNamespace.set(getClass().getSimpleName() + "." + method.getName() + "#" + namespaceSequence.incrementAndGet());
+            if (classStubs != null) {
+                mockServer.reset(classStubs);
+            }
         }
     }
 
@@ -148,24 +357,53 @@ public abstract class BaseTest {
             extentTest.log(Status.SKIP, "Test skipped");
         }
         test.remove();
+        if (MockNamespace.get() != null) {
+            if (mockServer != null && mockServer.isRunning()) {
+                mockServer.reset();
+            }
+            MockNamespace.clear();
+        }
     }
 
     private void setupMockServer() {
-        try {
-            mockServer = new ApiMockServer();
-            mockServer.start();
-            
-            // Override base URL to use mock server
-            String mockBaseUrl = mockServer.getBaseUrl();
-            configManager.setBaseUrl(mockBaseUrl);
-            
-            logger.info("Mock server setup completed. Base URL: {}", mockBaseUrl);
-        } catch (Exception e) {
-            logger.error("Failed to setup mock server", e);
-            throw new RuntimeException("Mock server setup failed", e);
+        synchronized (BaseTest.class) {
+            if (suiteMockServer == null) {
+                try {
+                    ApiMockServer server = new ApiMockServer();
+                    server.start();
+                    server.markBaseline();
+
+                    // Override base URL to use mock server
+                    String mockBaseUrl = server.getBaseUrl();
+                    configManager.setBaseUrl(mockBaseUrl);
+                    suiteMockServer = server;
+
+                    logger.info("Mock server setup completed. Base URL: {}", mockBaseUrl);
+                } catch (Exception e) {
+                    logger.error("Failed to setup mock server", e);
+                    throw new RuntimeException("Mock server setup failed", e);
+                }
+            }
+            mockServer = suiteMockServer;
         }
     }
 
+    /**
+     * Publish a value declared in this test's {@link com.restassured.framework.scheduling.DataFlow#produces()}
+     */
+    protected void produce(String name, Object value) {
+        DataFlowStore.put(this.getClass(), name, value);
+        logStep("Produced " + name + " = " + value);
+    }
+
+    /**
+     * Read a value declared in this test's {@link com.restassured.framework.scheduling.DataFlow#consumes()};
+     * the scheduler has already run its producers
+     */
+    protected <T> T consume(String name, Class<T> type) {
+        return DataFlowStore.get(this.getClass(), name, type);
+    }
+
     /**
      * Helper method to log test information
      */
@@ -0,0 +1,36 @@
+package com.restassured.framework.scheduling;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Data a test method creates for, or needs from, other tests of its class.
+ * {@link DependencyScheduler} turns these declarations into TestNG method
+ * dependencies, so a consumer runs after every producer of what it consumes
+ * while tests without a data relationship stay free to run in parallel:
+ * <pre>
+ * &#64;Test &#64;DataFlow(produces = "userId")
+ * public void testCreateUser() { ... produce("userId", id); }
+ *
+ * &#64;Test &#64;DataFlow(consumes = "userId")
+ * public void testDeleteUser() { int id = consume("userId", Integer.class); ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface DataFlow {
+
+    /**
+     * Names of the values this test produces
+     */
+    String[] produces() default {};
+
+    /**
+     * Names of the values this test needs before it can run
+     */
+    String[] consumes() default {};
+}
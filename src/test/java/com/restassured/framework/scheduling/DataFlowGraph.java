@@ -0,0 +1,101 @@
+package com.restassured.framework.scheduling;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Dependency DAG of one test class, built from its {@link DataFlow} declarations:
+ * an edge runs from every producer of a value to every consumer of it. Building
+ * the graph fails on values nobody produces and on cycles, naming the methods
+ * involved, instead of leaving TestNG to skip or hang.
+ */
+public class DataFlowGraph {
+    private static final int VISITING = 1;
+    private static final int VISITED = 2;
+    private final Class<?> testClass;
+    // Method name -> methods it must run after, in declaration-independent order
+    private final Map<String, Set<String>> dependencies = new TreeMap<>();
+
+    private DataFlowGraph(Class<?> testClass) {
+        this.testClass = testClass;
+    }
+
+    public static DataFlowGraph of(Class<?> testClass) {
+        DataFlowGraph graph = new DataFlowGraph(testClass);
+        Map<String, Set<String>> producers = new LinkedHashMap<>();
+        Map<String, DataFlow> flows = new TreeMap<>();
+        Method[] methods = testClass.getMethods();
+        Arrays.sort(methods, Comparator.comparing(Method::getName));
+        for (Method method : methods) {
+            DataFlow flow = method.getAnnotation(DataFlow.class);
+            if (flow == null) {
+                continue;
+            }
+            flows.put(method.getName(), flow);
+            for (String value : flow.produces()) {
+                producers.computeIfAbsent(value, v -> new LinkedHashSet<>()).add(method.getName());
+            }
+        }
+        flows.forEach((method, flow) -> {
+            Set<String> dependsOn = new LinkedHashSet<>();
+            for (String value : flow.consumes()) {
+                Set<String> valueProducers = producers.get(value);
+                if (valueProducers == null) {
+                    throw new IllegalStateException(String.format("%s.%s consumes '%s' but no test in the class produces it",
+                            testClass.getSimpleName(), method, value));
+                }
+                valueProducers.stream().filter(producer -> !producer.equals(method)).forEach(dependsOn::add);
+            }
+            graph.dependencies.put(method, dependsOn);
+        });
+        graph.checkAcyclic();
+        return graph;
+    }
+
+    /**
+     * Methods that must complete before the given one, empty when it has no data dependencies
+     */
+    public Set<String> dependenciesOf(String method) {
+        return Collections.unmodifiableSet(dependencies.getOrDefault(method, Collections.emptySet()));
+    }
+
+    private void checkAcyclic() {
+        Map<String, Integer> state = new TreeMap<>();
+        for (String method : dependencies.keySet()) {
+            visit(method, state, new ArrayList<>());
+        }
+    }
+
+    private void visit(String method, Map<String, Integer> state, List<String> path) {
+        Integer current = state.get(method);
+        if (current != null && current == VISITED) {
+            return;
+        }
+        path.add(method);
+        if (current != null) {
+            List<String> cycle = path.subList(path.indexOf(method), path.size());
+            throw new IllegalStateException(String.format("Data dependencies of %s form a cycle: %s",
+                    testClass.getSimpleName(), String.join(" -> ", cycle)));
+        }
+        state.put(method, VISITING);
+        for (String dependency : dependenciesOf(method)) {
+            visit(dependency, state, path);
+        }
+        state.put(method, VISITED);
+        path.remove(path.size() - 1);
+    }
+
+    @Override
+    public String toString() {
+        return testClass.getSimpleName() + dependencies;
+    }
+}
@@ -0,0 +1,44 @@
+package com.restassured.framework.scheduling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Values produced by {@link DataFlow} producers, kept per test class until its
+ * consumers read them. Producers and consumers may run on different threads.
+ */
+public final class DataFlowStore {
+    private static final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    private DataFlowStore() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static void put(Class<?> testClass, String name, Object value) {
+        values.put(key(testClass, name), value);
+    }
+
+    /**
+     * Value produced for the class, failing with a hint when no producer has stored it
+     */
+    public static <T> T get(Class<?> testClass, String name, Class<T> type) {
+        Object value = values.get(key(testClass, name));
+        if (value == null) {
+            throw new IllegalStateException(String.format("No value '%s' produced for %s; declare @DataFlow(consumes = \"%s\") "
+                    + "and produce it in another test", name, testClass.getSimpleName(), name));
+        }
+        return type.cast(value);
+    }
+
+    /**
+     * Forget everything produced for the class
+     */
+    public static void clear(Class<?> testClass) {
+        String prefix = testClass.getName() + "#";
+        values.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private static String key(Class<?> testClass, String name) {
+        return testClass.getName() + "#" + name;
+    }
+}
@@ -0,0 +1,118 @@
+package com.restassured.framework.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Orders items by priority without breaking their dependencies: an item never
+ * comes before the items it depends on, and an item that a high-priority item
+ * depends on is pulled forward with it, so the high-priority item can run as
+ * early as its dependencies allow.
+ */
+public final class DependencyOrder {
+
+    private DependencyOrder() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * @param name         identity of an item, as referred to by dependencies; several items may share one
+     * @param dependencies names an item must come after; names of absent items are ignored
+     * @param priority     lower sorts first; ties keep the input order
+     */
+    public static <T> List<T> order(List<T> items, Function<T, String> name, Function<T, Collection<String>> dependencies,
+                                    Comparator<T> priority) {
+        int size = items.size();
+        Map<String, List<Integer>> byName = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            byName.computeIfAbsent(name.apply(items.get(i)), n -> new ArrayList<>()).add(i);
+        }
+        List<List<Integer>> dependents = new ArrayList<>();
+        int[] pending = new int[size];
+        for (int i = 0; i < size; i++) {
+            dependents.add(new ArrayList<>());
+        }
+        for (int i = 0; i < size; i++) {
+            for (String dependency : dependencies.apply(items.get(i))) {
+                for (int producer : byName.getOrDefault(dependency, List.of())) {
+                    if (producer != i) {
+                        dependents.get(producer).add(i);
+                        pending[i]++;
+                    }
+                }
+            }
+        }
+
+        // Each item inherits the best priority among itself and everything that depends on it
+        int[] effective = new int[size];
+        for (int i = 0; i < size; i++) {
+            effective[i] = i;
+        }
+        List<Integer> topological = topological(dependents, pending.clone());
+        for (int k = topological.size() - 1; k >= 0; k--) {
+            int item = topological.get(k);
+            for (int dependent : dependents.get(item)) {
+                if (priority.compare(items.get(effective[dependent]), items.get(effective[item])) < 0) {
+                    effective[item] = effective[dependent];
+                }
+            }
+        }
+
+        Comparator<Integer> byEffective = (a, b) -> priority.compare(items.get(effective[a]), items.get(effective[b]));
+        PriorityQueue<Integer> ready = new PriorityQueue<>(byEffective
+                .thenComparing((a, b) -> priority.compare(items.get(a), items.get(b)))
+                .thenComparing(Comparator.naturalOrder()));
+        for (int i = 0; i < size; i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+        List<T> ordered = new ArrayList<>(size);
+        boolean[] placed = new boolean[size];
+        while (!ready.isEmpty()) {
+            int item = ready.poll();
+            ordered.add(items.get(item));
+            placed[item] = true;
+            for (int dependent : dependents.get(item)) {
+                if (--pending[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        // Items on a cycle keep their input order; TestNG reports the cycle itself
+        for (int i = 0; i < size; i++) {
+            if (!placed[i]) {
+                ordered.add(items.get(i));
+            }
+        }
+        return ordered;
+    }
+
+    private static List<Integer> topological(List<List<Integer>> dependents, int[] pending) {
+        List<Integer> order = new ArrayList<>();
+        Deque<Integer> ready = new ArrayDeque<>();
+        for (int i = 0; i < pending.length; i++) {
+            if (pending[i] == 0) {
+                ready.add(i);
+            }
+        }
+        while (!ready.isEmpty()) {
+            int item = ready.poll();
+            order.add(item);
+            for (int dependent : dependents.get(item)) {
+                if (--pending[dependent] == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        return order;
+    }
+}
@@ -0,0 +1,84 @@
+package com.restassured.framework.scheduling;
+
+import com.restassured.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schedules tests by their declared data dependencies instead of by class order.
+ * Each {@link DataFlow} consumer gets its producers added to dependsOnMethods,
+ * so TestNG's own graph runs it after them and skips it if a producer failed.
+ * With scheduler.parallel.enabled every test runs with parallel="methods" and
+ * scheduler.thread.count threads, leaving only real data dependencies serialized.
+ * Registered through META-INF/services, so it applies to every TestNG run.
+ */
+public class DependencyScheduler implements IAnnotationTransformer, IAlterSuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(DependencyScheduler.class);
+    private final Map<Class<?>, DataFlowGraph> graphs = new ConcurrentHashMap<>();
+    // Null when scheduler.parallel.enabled decides
+    private final Boolean parallel;
+
+    /**
+     * Parallel scheduling from scheduler.parallel.enabled
+     */
+    public DependencyScheduler() {
+        this.parallel = null;
+    }
+
+    /**
+     * Parallel scheduling on or off regardless of the configuration, e.g. for a nested run
+     */
+    public DependencyScheduler(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        if (testMethod == null || !testMethod.isAnnotationPresent(DataFlow.class)) {
+            return;
+        }
+        DataFlowGraph graph = graphs.computeIfAbsent(testMethod.getDeclaringClass(), DataFlowGraph::of);
+        Set<String> producers = graph.dependenciesOf(testMethod.getName());
+        if (producers.isEmpty()) {
+            return;
+        }
+        Set<String> dependsOn = new LinkedHashSet<>(List.of(annotation.getDependsOnMethods()));
+        dependsOn.addAll(producers);
+        annotation.setDependsOnMethods(dependsOn.toArray(new String[0]));
+        logger.debug("{}.{} runs after {}", testMethod.getDeclaringClass().getSimpleName(), testMethod.getName(), producers);
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (!(parallel != null ? parallel : config.getBooleanProperty("scheduler.parallel.enabled", false))) {
+            return;
+        }
+        int threads = config.getIntProperty("scheduler.thread.count", 8);
+        for (XmlSuite suite : suites) {
+            suite.setParallel(XmlSuite.ParallelMode.METHODS);
+            suite.setThreadCount(threads);
+            for (XmlTest test : suite.getTests()) {
+                test.setParallel(XmlSuite.ParallelMode.METHODS);
+                test.setThreadCount(threads);
+                // Order now comes from the dependency graph, not from the file
+                test.setPreserveOrder(false);
+            }
+            logger.info("Suite '{}' scheduled by data dependencies on {} threads", suite.getName(), threads);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.restassured.framework.scheduling;
+
+import com.restassured.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * With test.order=feedback, runs the tests most likely to fail first so a broken
+ * build is reported early: tests that failed in their last run, then tests with
+ * failures among their recent runs, then the rest shortest first. Tests without
+ * history count as stable and instantaneous, since new tests tend to be short and
+ * fail more often. TestNG keeps the methods of a class together, so classes are
+ * ordered the same way by their tests, then methods within each class.
+ * Dependencies, including those from {@link DataFlow}, are kept: a test's
+ * producers are moved up with it.
+ */
+public class FeedbackOrdering implements IAlterSuiteListener, IMethodInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(FeedbackOrdering.class);
+    private final TestHistory history;
+
+    /**
+     * Ordering from test.order and the history in test.history.dir
+     */
+    public FeedbackOrdering() {
+        this(null);
+    }
+
+    /**
+     * Always orders by the given history
+     */
+    public FeedbackOrdering(TestHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!enabled()) {
+            return;
+        }
+        Comparator<XmlClass> byTests = Comparator.comparing(xmlClass -> classPriority(history(), xmlClass), Priority.ORDER);
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                List<XmlClass> classes = new ArrayList<>(test.getXmlClasses());
+                classes.sort(byTests);
+                for (int i = 0; i < classes.size(); i++) {
+                    classes.get(i).setIndex(i);
+                }
+                test.setXmlClasses(classes);
+            }
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!enabled()) {
+            return methods;
+        }
+        TestHistory history = history();
+        List<IMethodInstance> ordered = DependencyOrder.order(methods,
+                method -> method.getMethod().getQualifiedName(),
+                method -> Arrays.asList(method.getMethod().getMethodsDependedUpon()),
+                Comparator.comparing(method -> Priority.of(history, method.getMethod().getQualifiedName()), Priority.ORDER));
+        if (!ordered.isEmpty()) {
+            logger.info("Feedback order for {}: {} methods, starting with {}", context.getName(), ordered.size(),
+                    ordered.get(0).getMethod().getQualifiedName());
+        }
+        return ordered;
+    }
+
+    private boolean enabled() {
+        return history != null || "feedback".equalsIgnoreCase(ConfigManager.getInstance().getProperty("test.order", "declared"));
+    }
+
+    private TestHistory history() {
+        return history != null ? history : TestHistory.getInstance();
+    }
+
+    /**
+     * A class is as urgent as its most urgent test and as slow as all its tests together
+     */
+    private static Priority classPriority(TestHistory history, XmlClass xmlClass) {
+        Priority priority = new Priority(false, 0, 0);
+        for (Method method : xmlClass.getSupportClass().getMethods()) {
+            if (method.isAnnotationPresent(Test.class)) {
+                Priority test = Priority.of(history, xmlClass.getName() + "." + method.getName());
+                priority = new Priority(priority.failedLastRun || test.failedLastRun,
+                        Math.max(priority.recentFailures, test.recentFailures), priority.durationMs + test.durationMs);
+            }
+        }
+        return priority;
+    }
+
+    private static final class Priority {
+        private static final Comparator<Priority> ORDER = Comparator.comparing((Priority p) -> !p.failedLastRun)
+                .thenComparing(p -> -p.recentFailures)
+                .thenComparingLong(p -> p.durationMs);
+        private final boolean failedLastRun;
+        private final int recentFailures;
+        private final long durationMs;
+
+        private Priority(boolean failedLastRun, int recentFailures, long durationMs) {
+            this.failedLastRun = failedLastRun;
+            this.recentFailures = recentFailures;
+            this.durationMs = durationMs;
+        }
+
+        static Priority of(TestHistory history, String test) {
+            return new Priority(history.failedLastRun(test), history.recentFailures(test), history.durationOf(test).orElse(0));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.restassured.framework.scheduling;
+
+import com.restassured.framework.config.ConfigManager;
+
+/**
+ * Which slice of the suite this JVM runs, from -Dshard.index (0-based) and
+ * -Dshard.count. A single shard is the whole suite.
+ */
+public final class Shard {
+    private final int index;
+    private final int count;
+
+    public Shard(int index, int count) {
+        if (count < 1 || index < 0 || index >= count) {
+            throw new IllegalArgumentException(String.format("Invalid shard %d of %d; shard.index must be in [0, shard.count)", index, count));
+        }
+        this.index = index;
+        this.count = count;
+    }
+
+    public static Shard current() {
+        ConfigManager config = ConfigManager.getInstance();
+        return new Shard(config.getIntProperty("shard.index", 0), config.getIntProperty("shard.count", 1));
+    }
+
+    public boolean isSharded() {
+        return count > 1;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * File name part distinguishing this shard's outputs, e.g. "shard-2-of-4"
+     */
+    public String getName() {
+        return isSharded() ? String.format("shard-%d-of-%d", index, count) : "all";
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
@@ -0,0 +1,127 @@
+package com.restassured.framework.scheduling;
+
+import com.restassured.framework.metrics.SlaEvaluator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInterceptor;
+import org.testng.IMethodInstance;
+import org.testng.ITestContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps only this shard's test methods when shard.count is above 1. Methods are
+ * spread by {@link ShardPlanner} using their durations from {@link TestHistory};
+ * methods without history count as the median. Methods linked by dependsOnMethods,
+ * including those derived from {@link DataFlow}, are placed as one unit so a
+ * consumer always runs in the same JVM as its producers; so are the methods of a
+ * class with a {@link com.restassured.framework.metrics.LatencySla}. Every &lt;test&gt;
+ * of the suite is planned from the same history snapshot, so all shards agree on
+ * the plan no matter what they record while running.
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+    private static final Logger logger = LoggerFactory.getLogger(ShardInterceptor.class);
+    private static final long DEFAULT_DURATION_MS = 1000;
+    private final Shard shard;
+    private final TestHistory history;
+
+    /**
+     * Shard from shard.index and shard.count, durations from test.history.dir
+     */
+    public ShardInterceptor() {
+        this(null, null);
+    }
+
+    public ShardInterceptor(Shard shard, TestHistory history) {
+        this.shard = shard;
+        this.history = history != null ? history.snapshot() : null;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Shard shard = this.shard != null ? this.shard : Shard.current();
+        if (!shard.isSharded()) {
+            return methods;
+        }
+        TestHistory history = this.history != null ? this.history : TestHistory.getInstance();
+        long unknownMs = history.medianDurationMs(DEFAULT_DURATION_MS);
+        List<Unit> units = units(methods);
+        units.forEach(unit -> unit.methods.forEach(method ->
+                unit.durationMs += history.durationOf(method.getMethod().getQualifiedName()).orElse(unknownMs)));
+
+        List<List<Unit>> plan = ShardPlanner.assign(units, unit -> unit.durationMs, shard.getCount());
+        Set<IMethodInstance> kept = new HashSet<>();
+        for (Unit unit : plan.get(shard.getIndex())) {
+            kept.addAll(unit.methods);
+        }
+        List<IMethodInstance> result = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            if (kept.contains(method)) {
+                result.add(method);
+            }
+        }
+        for (int i = 0; i < plan.size(); i++) {
+            long load = plan.get(i).stream().mapToLong(unit -> unit.durationMs).sum();
+            logger.info("Shard {} of {}: {} units, ~{} ms{}", i, shard.getCount(), plan.get(i).size(), load,
+                    i == shard.getIndex() ? " (this JVM)" : "");
+        }
+        return result;
+    }
+
+    /**
+     * Group methods connected through method dependencies or a class latency SLA, in order of first appearance
+     */
+    static List<Unit> units(List<IMethodInstance> methods) {
+        Map<String, String> parent = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            parent.put(method.getMethod().getQualifiedName(), method.getMethod().getQualifiedName());
+        }
+        Map<Class<?>, String> slaClasses = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            String name = method.getMethod().getQualifiedName();
+            for (String dependency : method.getMethod().getMethodsDependedUpon()) {
+                if (parent.containsKey(dependency)) {
+                    parent.put(root(parent, dependency), root(parent, name));
+                }
+            }
+            // A class latency SLA is judged on all of the class's requests, so the class is not split
+            Class<?> testClass = method.getMethod().getRealClass();
+            if (!SlaEvaluator.rulesFor(testClass).isEmpty()) {
+                String first = slaClasses.putIfAbsent(testClass, name);
+                if (first != null) {
+                    parent.put(root(parent, first), root(parent, name));
+                }
+            }
+        }
+        Map<String, Unit> units = new LinkedHashMap<>();
+        for (IMethodInstance method : methods) {
+            units.computeIfAbsent(root(parent, method.getMethod().getQualifiedName()), root -> new Unit()).methods.add(method);
+        }
+        return new ArrayList<>(units.values());
+    }
+
+    private static String root(Map<String, String> parent, String name) {
+        String root = name;
+        while (!parent.get(root).equals(root)) {
+            root = parent.get(root);
+        }
+        // Path compression keeps later lookups short
+        while (!name.equals(root)) {
+            String next = parent.get(name);
+            parent.put(name, root);
+            name = next;
+        }
+        return root;
+    }
+
+    static final class Unit {
+        private final List<IMethodInstance> methods = new ArrayList<>();
+        private long durationMs;
+    }
+}
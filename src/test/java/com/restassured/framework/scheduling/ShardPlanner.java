@@ -0,0 +1,59 @@
+package com.restassured.framework.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Longest-processing-time-first bin packing: items are taken longest first and
+ * each goes to the currently least loaded shard. The result is within 4/3 of the
+ * optimal makespan and depends only on the input, so every shard of a run
+ * computes the same plan independently.
+ */
+public final class ShardPlanner {
+
+    private ShardPlanner() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Split the items into the given number of shards, keeping the input order within each shard
+     */
+    public static <T> List<List<T>> assign(List<T> items, ToLongFunction<T> weight, int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1, got " + shards);
+        }
+        List<Integer> byWeight = new ArrayList<>();
+        for (int i = 0; i < items.size(); i++) {
+            byWeight.add(i);
+        }
+        // Ties keep input order so the plan is deterministic
+        byWeight.sort(Comparator.comparingLong((Integer i) -> weight.applyAsLong(items.get(i))).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        long[] loads = new long[shards];
+        PriorityQueue<Integer> leastLoaded = new PriorityQueue<>(
+                Comparator.comparingLong((Integer shard) -> loads[shard]).thenComparing(Comparator.naturalOrder()));
+        for (int shard = 0; shard < shards; shard++) {
+            leastLoaded.add(shard);
+        }
+        int[] assignment = new int[items.size()];
+        for (int item : byWeight) {
+            int shard = leastLoaded.poll();
+            assignment[item] = shard;
+            loads[shard] += weight.applyAsLong(items.get(item));
+            leastLoaded.add(shard);
+        }
+
+        List<List<T>> result = new ArrayList<>();
+        for (int shard = 0; shard < shards; shard++) {
+            result.add(new ArrayList<>());
+        }
+        for (int i = 0; i < items.size(); i++) {
+            result.get(assignment[i]).add(items.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,78 @@
+package com.restassured.framework.scheduling;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import com.aventstack.extentreports.reporter.configuration.Theme;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * ExtentReports outputs of a sharded run. Each shard writes its own HTML report
+ * and a JSON archive of its tests; {@link #merge} rebuilds the single suite
+ * report from the archives once all shards are collected:
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.restassured.framework.scheduling.ShardReports -Dexec.classpathScope=test
+ * </pre>
+ */
+public final class ShardReports {
+    private static final Logger logger = LoggerFactory.getLogger(ShardReports.class);
+    public static final String REPORT = "target/ExtentReports.html";
+    public static final String ARCHIVE_DIR = "target/extent-shards";
+
+    private ShardReports() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * HTML report of the shard; the suite report when not sharded
+     */
+    public static String htmlReport(Shard shard) {
+        return shard.isSharded() ? "target/ExtentReports-" + shard.getName() + ".html" : REPORT;
+    }
+
+    public static Path jsonArchive(Shard shard) {
+        return Paths.get(ARCHIVE_DIR, shard.getName() + ".json");
+    }
+
+    public static ExtentSparkReporter sparkReporter(String file) {
+        ExtentSparkReporter sparkReporter = new ExtentSparkReporter(file);
+        sparkReporter.config().setTheme(Theme.STANDARD);
+        sparkReporter.config().setDocumentTitle("API Test Report");
+        sparkReporter.config().setReportName("REST API Testing");
+        return sparkReporter;
+    }
+
+    /**
+     * Write one report containing the tests of every shard archive in the directory
+     *
+     * @return number of shard archives merged
+     */
+    public static int merge(Path archiveDir, Path report) {
+        ExtentReports extent = new ExtentReports();
+        extent.attachReporter(sparkReporter(report.toString()));
+        int merged = 0;
+        try (DirectoryStream<Path> archives = Files.newDirectoryStream(archiveDir, "*.json")) {
+            for (Path archive : archives) {
+                extent.createDomainFromJsonArchive(archive.toFile());
+                merged++;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to merge shard reports from " + archiveDir, e);
+        }
+        extent.flush();
+        return merged;
+    }
+
+    public static void main(String[] args) {
+        Path archiveDir = Paths.get(args.length > 0 ? args[0] : ARCHIVE_DIR);
+        Path report = Paths.get(args.length > 1 ? args[1] : REPORT);
+        int merged = merge(archiveDir, report);
+        logger.info("Merged {} shard reports from {} into {}", merged, archiveDir, report);
+    }
+}
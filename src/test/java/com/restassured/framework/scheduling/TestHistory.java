@@ -0,0 +1,214 @@
+package com.restassured.framework.scheduling;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.restassured.framework.config.ConfigManager;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test durations and recent outcomes from previous runs, keyed by qualified
+ * method name. Every run, or every shard of a run, writes its own JSON file to
+ * test.history.dir; loading merges all files there and keeps the most recent
+ * entry per test, so shard outputs collected from several machines simply go
+ * into one directory.
+ */
+public class TestHistory {
+    private static final int FORMAT_VERSION = 1;
+    // Weight of the latest run in the smoothed duration
+    private static final double SMOOTHING = 0.5;
+    // Outcomes kept per test, oldest first: P passed, F failed
+    private static final int MAX_OUTCOMES = 10;
+    private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static volatile TestHistory instance;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final boolean readOnly;
+
+    public TestHistory() {
+        this(false);
+    }
+
+    private TestHistory(boolean readOnly) {
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * Read-only history as loaded from test.history.dir when the run started. The scheduling
+     * listeners plan every &lt;test&gt; of the run from it, so it never changes; finished tests
+     * are recorded into a {@link #copy()}.
+     */
+    public static TestHistory getInstance() {
+        if (instance == null) {
+            synchronized (TestHistory.class) {
+                if (instance == null) {
+                    instance = load(directory()).snapshot();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static Path directory() {
+        return Paths.get(ConfigManager.getInstance().getProperty("test.history.dir", "target/test-history"));
+    }
+
+    /**
+     * Merge every history file in the directory; empty if there is none
+     */
+    public static TestHistory load(Path dir) {
+        TestHistory history = new TestHistory();
+        if (!Files.isDirectory(dir)) {
+            return history;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path file : files) {
+                history.merge(file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read test history: " + dir, e);
+        }
+        return history;
+    }
+
+    private void merge(Path file) throws IOException {
+        JsonNode root = objectMapper.readTree(file.toFile());
+        int formatVersion = root.path("formatVersion").asInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported test history format " + formatVersion + " in " + file);
+        }
+        for (JsonNode test : root.path("tests")) {
+            Entry entry = new Entry(test.path("durationMs").asLong(), test.path("runs").asInt(), test.path("lastRunAt").asLong(),
+                    test.path("outcomes").asText(""));
+            entries.merge(test.path("name").asText(), entry, (a, b) -> a.lastRunAt >= b.lastRunAt ? a : b);
+        }
+    }
+
+    /**
+     * Read-only copy that later records into this history do not affect
+     */
+    public TestHistory snapshot() {
+        return readOnly ? this : copyInto(new TestHistory(true));
+    }
+
+    /**
+     * Writable copy, e.g. to record this run on top of the loaded history
+     */
+    public TestHistory copy() {
+        return copyInto(new TestHistory(false));
+    }
+
+    private TestHistory copyInto(TestHistory copy) {
+        copy.entries.putAll(entries);
+        return copy;
+    }
+
+    /**
+     * Record a finished test, smoothing its duration with earlier runs
+     */
+    public void record(String test, long durationMs, boolean passed) {
+        if (readOnly) {
+            throw new IllegalStateException("Cannot record " + test + " into a read-only test history");
+        }
+        long now = System.currentTimeMillis();
+        String outcome = passed ? "P" : "F";
+        entries.compute(test, (name, previous) -> {
+            if (previous == null) {
+                return new Entry(durationMs, 1, now, outcome);
+            }
+            String outcomes = previous.outcomes + outcome;
+            return new Entry(Math.round(SMOOTHING * durationMs + (1 - SMOOTHING) * previous.durationMs), previous.runs + 1, now,
+                    outcomes.substring(Math.max(0, outcomes.length() - MAX_OUTCOMES)));
+        });
+    }
+
+    /**
+     * Expected duration of the test, empty when it has never run
+     */
+    public OptionalLong durationOf(String test) {
+        Entry entry = entries.get(test);
+        return entry != null ? OptionalLong.of(entry.durationMs) : OptionalLong.empty();
+    }
+
+    /**
+     * Whether the most recent recorded run of the test failed
+     */
+    public boolean failedLastRun(String test) {
+        Entry entry = entries.get(test);
+        return entry != null && entry.outcomes.endsWith("F");
+    }
+
+    /**
+     * Failures among the test's last recorded runs
+     */
+    public int recentFailures(String test) {
+        Entry entry = entries.get(test);
+        return entry != null ? (int) entry.outcomes.chars().filter(outcome -> outcome == 'F').count() : 0;
+    }
+
+    /**
+     * Median expected duration over all known tests, used for tests without history
+     */
+    public long medianDurationMs(long fallbackMs) {
+        List<Long> durations = new ArrayList<>();
+        entries.values().forEach(entry -> durations.add(entry.durationMs));
+        if (durations.isEmpty()) {
+            return fallbackMs;
+        }
+        Collections.sort(durations);
+        return durations.get(durations.size() / 2);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void save(Path file) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("formatVersion", FORMAT_VERSION);
+        ArrayNode tests = root.putArray("tests");
+        new TreeMap<>(entries).forEach((name, entry) -> {
+            ObjectNode test = tests.addObject();
+            test.put("name", name);
+            test.put("durationMs", entry.durationMs);
+            test.put("runs", entry.runs);
+            test.put("lastRunAt", entry.lastRunAt);
+            test.put("outcomes", entry.outcomes);
+        });
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            objectMapper.writeValue(file.toFile(), root);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write test history: " + file, e);
+        }
+    }
+
+    private static final class Entry {
+        private final long durationMs;
+        private final int runs;
+        private final long lastRunAt;
+        private final String outcomes;
+
+        private Entry(long durationMs, int runs, long lastRunAt, String outcomes) {
+            this.durationMs = durationMs;
+            this.runs = runs;
+            this.lastRunAt = lastRunAt;
+            this.outcomes = outcomes;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.restassured.framework.scheduling;
+
+import com.restassured.framework.config.ConfigManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+
+/**
+ * Records the duration and outcome of every finished test method and writes
+ * this shard's history file when a test context finishes. Records go into a
+ * copy of {@link TestHistory#getInstance()}, never into the snapshot the
+ * scheduling listeners plan from. Turned off with test.history.enabled=false.
+ */
+public class TestHistoryRecorder implements ITestListener {
+    private static final Logger logger = LoggerFactory.getLogger(TestHistoryRecorder.class);
+    private TestHistory recorded;
+    private final Path file;
+
+    /**
+     * Records on top of the history in test.history.dir into this shard's file there
+     */
+    public TestHistoryRecorder() {
+        this(null, null);
+    }
+
+    public TestHistoryRecorder(TestHistory recorded, Path file) {
+        this.recorded = recorded;
+        this.file = file;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, false);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        if (!enabled()) {
+            return;
+        }
+        Path file = this.file != null ? this.file : TestHistory.directory().resolve("history-" + Shard.current().getName() + ".json");
+        TestHistory history = recorded();
+        history.save(file);
+        logger.info("Test history of {} tests written to {}", history.size(), file);
+    }
+
+    private void record(ITestResult result, boolean passed) {
+        if (enabled()) {
+            recorded().record(result.getMethod().getQualifiedName(), result.getEndMillis() - result.getStartMillis(), passed);
+        }
+    }
+
+    private synchronized TestHistory recorded() {
+        if (recorded == null) {
+            recorded = TestHistory.getInstance().copy();
+        }
+        return recorded;
+    }
+
+    private static boolean enabled() {
+        return ConfigManager.getInstance().getBooleanProperty("test.history.enabled", true);
+    }
+}
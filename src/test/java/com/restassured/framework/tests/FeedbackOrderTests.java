@@ -0,0 +1,131 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.scheduling.DataFlow;
+import com.restassured.framework.scheduling.DependencyScheduler;
+import com.restassured.framework.scheduling.DependencyOrder;
+import com.restassured.framework.scheduling.FeedbackOrdering;
+import com.restassured.framework.scheduling.ShardInterceptor;
+import com.restassured.framework.scheduling.TestHistory;
+import com.restassured.framework.scheduling.TestHistoryRecorder;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test class for failure-first and fast-first test ordering
+ */
+public class FeedbackOrderTests extends BaseTest {
+
+    @Test(description = "Priority order never breaks dependencies")
+    public void testDependenciesPulledForward() {
+        logTestInfo("testDependenciesPulledForward", "A failing consumer brings its producers to the front with it");
+
+        List<String> items = List.of("slow", "create", "read", "delete", "fast");
+        Map<String, List<String>> dependencies = Map.of("read", List.of("create"), "delete", List.of("read", "create"));
+        Map<String, Integer> priority = Map.of("delete", 0, "fast", 1, "create", 2, "read", 2, "slow", 3);
+
+        List<String> ordered = DependencyOrder.order(items, item -> item, item -> dependencies.getOrDefault(item, List.of()),
+                Comparator.comparing(priority::get));
+
+        assert ordered.equals(List.of("create", "read", "delete", "fast", "slow")) : "Unexpected order " + ordered;
+    }
+
+    @Test(description = "Outcomes of recent runs are kept per test")
+    public void testHistoryRecordsOutcomes() throws Exception {
+        logTestInfo("testHistoryRecordsOutcomes", "The last 10 outcomes survive a save and load");
+
+        TestHistory history = new TestHistory();
+        history.record("a.Tests.flaky", 100, false);
+        for (int i = 0; i < 10; i++) {
+            history.record("a.Tests.flaky", 100, i != 4);
+        }
+        history.record("a.Tests.broken", 100, false);
+        Path dir = Files.createTempDirectory("test-history");
+        history.save(dir.resolve("history-all.json"));
+
+        TestHistory loaded = TestHistory.load(dir);
+        assert loaded.recentFailures("a.Tests.flaky") == 1 : "Outcomes beyond the last 10 were kept: " + loaded.recentFailures("a.Tests.flaky");
+        assert !loaded.failedLastRun("a.Tests.flaky") : "Flaky test passed last";
+        assert loaded.failedLastRun("a.Tests.broken") && loaded.recentFailures("a.Tests.broken") == 1 : "Failure was not kept";
+        assert !loaded.failedLastRun("a.Tests.unknown") && loaded.recentFailures("a.Tests.unknown") == 0 : "Unknown test has failures";
+    }
+
+    @Test(description = "Recently failed and short tests run first")
+    public void testFeedbackOrder() {
+        logTestInfo("testFeedbackOrder", "The failed consumer runs right after its producer, long stable tests last");
+
+        TestHistory history = new TestHistory();
+        String prefix = OrderSample.class.getName() + ".";
+        history.record(prefix + "slowStable", 5000, true);
+        history.record(prefix + "fastStable", 50, true);
+        history.record(prefix + "flaky", 3000, false);
+        history.record(prefix + "flaky", 3000, true);
+        history.record(prefix + "createUser", 400, true);
+        history.record(prefix + "deleteUser", 200, false);
+
+        OrderSample.executed.clear();
+        TestNG testng = new TestNG(false);
+        testng.setVerbose(0);
+        testng.setTestClasses(new Class[]{OrderSample.class});
+        // The sample runs sequentially even when the suite running this test is parallel
+        testng.setListenersToSkipFromBeingWiredInViaServiceLoaders(FeedbackOrdering.class.getName(), DependencyScheduler.class.getName(),
+                ShardInterceptor.class.getName(), TestHistoryRecorder.class.getName());
+        testng.addListener(new DependencyScheduler(false));
+        testng.addListener(new FeedbackOrdering(history));
+        TestListenerAdapter results = new TestListenerAdapter();
+        testng.addListener(results);
+        testng.run();
+
+        assert results.getPassedTests().size() == 6 : "Sample tests did not all pass: " + results.getFailedTests();
+        assert OrderSample.executed.equals(List.of("createUser", "deleteUser", "flaky", "newTest", "fastStable", "slowStable"))
+                : "Unexpected order " + OrderSample.executed;
+        logStep("Sample ran in order " + OrderSample.executed);
+    }
+}
+
+/**
+ * Suite ordered by testFeedbackOrder; not run on its own
+ */
+class OrderSample {
+    static final List<String> executed = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void slowStable() {
+        executed.add("slowStable");
+    }
+
+    @Test
+    public void fastStable() {
+        executed.add("fastStable");
+    }
+
+    @Test
+    public void flaky() {
+        executed.add("flaky");
+    }
+
+    @Test
+    @DataFlow(produces = "userId")
+    public void createUser() {
+        executed.add("createUser");
+    }
+
+    @Test
+    @DataFlow(consumes = "userId")
+    public void deleteUser() {
+        executed.add("deleteUser");
+    }
+
+    @Test
+    public void newTest() {
+        executed.add("newTest");
+    }
+}
@@ -0,0 +1,94 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.constants.ApiConstants;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.load.DistributedLoadRunner;
+import com.restassured.framework.load.LoadPhase;
+import com.restassured.framework.load.LoadRequest;
+import com.restassured.framework.load.LoadTestResult;
+import com.restassured.framework.load.LoadTestRunner;
+import com.restassured.framework.mocks.ApiMockServer;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for open-model load generation.
+ * Methods run one at a time, since each load run needs the target to itself.
+ */
+@Test(singleThreaded = true)
+public class LoadTestRunnerTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startLoadTarget() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        mockServer.markBaseline();
+        // Worker JVMs send no namespace header, so the target's stubs must be shared
+        MockNamespace.clear();
+        mockServer.mockWithDelay("GET", "/users/{id}", 200, "{\"id\": 1}", 20);
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Arrival rate follows the load profile")
+    public void testOpenModelArrivalRate() {
+        logTestInfo("testOpenModelArrivalRate", "Ramp up, hold and ramp down against the mock server");
+
+        LoadTestResult result = new LoadTestRunner(apiClient, 50).run(
+                client -> client.get("/users/1").assertStatusCode(200),
+                LoadPhase.rampUp(500, 200), LoadPhase.steady(1000, 200), LoadPhase.rampDown(500, 200));
+
+        // 50 + 200 + 50 arrivals expected from the profile
+        assert Math.abs(result.getTotalRequests() - 300) <= 3 : "Unexpected request count: " + result.getTotalRequests();
+        assert result.getFailed() == 0 : "Unexpected failures: " + result.getFailed();
+        assert result.getCorrectedLatency().getValueAtPercentile(50) >= 20000 : "Latency below the injected delay: " + result;
+        logStep("Load run: " + result.summary());
+    }
+
+    @Test(description = "Queueing delay is counted when workers saturate")
+    public void testCoordinatedOmissionCorrection() {
+        logTestInfo("testCoordinatedOmissionCorrection", "Corrected latency includes time spent waiting for a worker");
+
+        // 2 workers at 20ms per request serve ~100 rps; 200 rps must queue
+        LoadTestResult result = new LoadTestRunner(apiClient, 2).run(
+                client -> client.get("/users/1").assertStatusCode(200),
+                LoadPhase.steady(1000, 200));
+
+        long correctedP99 = result.getCorrectedLatency().getValueAtPercentile(99);
+        long serviceP99 = result.getServiceTime().getValueAtPercentile(99);
+        assert correctedP99 > 5 * serviceP99 : "Corrected p99 " + correctedP99 + "us does not reflect queueing (service p99 " + serviceP99 + "us)";
+        logStep("Saturated load run: " + result.summary());
+    }
+
+    @Test(description = "Worker JVMs replay the profile together and their results merge losslessly")
+    public void testDistributedLoad() {
+        logTestInfo("testDistributedLoad", "Two worker processes share one load profile against the mock server");
+
+        long recordedBefore = mockServer.getJournal().totalRecorded();
+        LoadTestResult result = new DistributedLoadRunner(mockServer.getBaseUrl(), 2)
+                .run(GetUserScenario.class, LoadPhase.steady(1000, 200));
+
+        // The two partitions together make exactly the 200 arrivals of the profile
+        assert Math.abs(result.getTotalRequests() - 200) <= 2 : "Unexpected request count: " + result.getTotalRequests();
+        assert result.getFailed() == 0 : "Unexpected failures: " + result.getFailed();
+        assert result.getCorrectedLatency().getTotalCount() == result.getTotalRequests() : "Merged histogram lost samples: " + result;
+        assert result.getCorrectedLatency().getValueAtPercentile(50) >= 20000 : "Latency below the injected delay: " + result;
+        // Requests from this JVM carry a namespace header, the workers' do not
+        long workerRequests = mockServer.getJournal().find(request -> "/users/1".equals(request.getPath())
+                && request.getHeader(ApiConstants.X_MOCK_NAMESPACE) == null).stream()
+                .filter(entry -> entry.getSequence() >= recordedBefore).count();
+        assert workerRequests == result.getTotalRequests() : "Mock server saw " + workerRequests + " worker requests";
+        logStep("Distributed load run: " + result.summary());
+    }
+
+    /**
+     * Scenario run inside the worker processes
+     */
+    public static class GetUserScenario implements LoadRequest {
+        @Override
+        public void execute(RestApiClient client) {
+            client.get("/users/1").assertStatusCode(200);
+        }
+    }
+}
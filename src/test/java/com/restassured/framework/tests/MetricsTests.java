@@ -0,0 +1,299 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.core.ApiException;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.metrics.EndpointKey;
+import com.restassured.framework.metrics.LatencyHistogram;
+import com.restassured.framework.metrics.LatencyRegistry;
+import com.restassured.framework.metrics.LatencySla;
+import com.restassured.framework.metrics.MetricsRegistry;
+import com.restassured.framework.metrics.OpenMetricsExporter;
+import com.restassured.framework.metrics.PerformanceBaseline;
+import com.restassured.framework.metrics.PhaseStats;
+import com.restassured.framework.metrics.PhaseTimings;
+import com.restassured.framework.metrics.RegressionGate;
+import com.restassured.framework.metrics.RequestPhase;
+import com.restassured.framework.metrics.SlaEvaluator;
+import com.restassured.framework.metrics.SlaRule;
+import com.restassured.framework.mocks.ApiMockServer;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test class for latency histograms and per-endpoint metrics
+ */
+@LatencySla(method = "GET", endpoint = "/metrics/users/{id}", percentile = 50, maxMs = 1000, minSamples = 5)
+public class MetricsTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startMetricsServer() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Histogram percentiles and merging")
+    public void testHistogramPercentiles() {
+        logTestInfo("testHistogramPercentiles", "Percentiles stay within the histogram precision after merging");
+
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (long value = 1; value <= 100000; value++) {
+            (value % 2 == 0 ? first : second).recordValue(value);
+        }
+        LatencyHistogram merged = first.copy();
+        merged.add(second);
+
+        assert merged.getTotalCount() == 100000 : "Merged count is " + merged.getTotalCount();
+        assert merged.getMaxValue() == 100000 : "Merged max is " + merged.getMaxValue();
+        assertWithinPrecision(merged.getValueAtPercentile(50), 50000);
+        assertWithinPrecision(merged.getValueAtPercentile(99), 99000);
+        assertWithinPrecision(merged.getValueAtPercentile(99.9), 99900);
+
+        // 5000 and 5040 share the bucket [4992, 5055], so only values below it are certainly <= 5000
+        LatencyHistogram edges = new LatencyHistogram();
+        edges.recordValue(4990);
+        edges.recordValue(5000);
+        edges.recordValue(5040);
+        assert edges.getCountAtOrBelow(5000) == 1 : "Count at or below 5000 includes larger values: " + edges.getCountAtOrBelow(5000);
+        assert edges.getCountAtOrBelow(5055) == 3 : "Count at a bucket edge is " + edges.getCountAtOrBelow(5055);
+    }
+
+    @Test(description = "RestApiClient records latency per endpoint template")
+    public void testEndpointLatencyRecording() {
+        logTestInfo("testEndpointLatencyRecording", "Requests to /metrics/users/{id} share one histogram per status class");
+
+        mockServer.mockGet("/metrics/users/{id}", 200, "{}");
+        mockServer.mockGet("/metrics/users/404", 404, "{}");
+        for (int i = 1; i <= 5; i++) {
+            apiClient.get("/metrics/users/" + i);
+        }
+        apiClient.get("/metrics/users/404");
+
+        LatencyHistogram ok = LatencyRegistry.getInstance().get(new EndpointKey("GET", "/metrics/users/{id}", "2xx"));
+        LatencyHistogram notFound = LatencyRegistry.getInstance().get(new EndpointKey("GET", "/metrics/users/{id}", "4xx"));
+        assert ok != null && ok.getTotalCount() == 5 : "Expected 5 recorded 2xx requests but got " + ok;
+        assert notFound != null && notFound.getTotalCount() == 1 : "Expected 1 recorded 4xx request but got " + notFound;
+    }
+
+    @Test(description = "Percentile SLAs pass or fail on the observed latency")
+    public void testLatencySlaEvaluation() {
+        logTestInfo("testLatencySlaEvaluation", "Rules parsed from config are evaluated against endpoint histograms");
+
+        List<SlaRule> rules = SlaRule.parseAll("GET /sla/users/{id} p99 < 150ms; POST /sla/users p95<300");
+        assert rules.size() == 2 : "Expected 2 rules but parsed " + rules;
+        assert rules.get(1).getPercentile() == 95 && rules.get(1).getMaxMs() == 300 : "Unexpected rule " + rules.get(1);
+
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 1000; i++) {
+            fast.recordValue(100_000);
+            slow.recordValue(i < 900 ? 100_000 : 900_000);
+        }
+        Map<EndpointKey, LatencyHistogram> histograms = new HashMap<>();
+        histograms.put(new EndpointKey("GET", "/sla/users/{id}", "2xx"), fast);
+        histograms.put(new EndpointKey("GET", "/sla/users/{id}", "5xx"), slow);
+
+        // 2xx and 5xx are merged: p99 falls in the 900ms tail
+        List<SlaEvaluator.Result> results = SlaEvaluator.evaluate(rules, histograms);
+        assert !results.get(0).isPassed() : "Expected p99 breach but got " + results.get(0);
+        assert results.get(0).getSamples() == 2000 : "Expected 2000 samples but got " + results.get(0);
+        // No POST samples at all must fail rather than pass vacuously
+        assert !results.get(1).isPassed() : "Expected missing samples to fail but got " + results.get(1);
+
+        List<SlaEvaluator.Result> relaxed = SlaEvaluator.evaluate(
+                Collections.singletonList(SlaRule.parse("GET /sla/users/{id} p90 < 150ms")), histograms);
+        assert relaxed.get(0).isPassed() : "Expected p90 to pass but got " + relaxed.get(0);
+    }
+
+    @Test(description = "Per-response time assertion")
+    public void testResponseTimeAssertion() {
+        logTestInfo("testResponseTimeAssertion", "ApiResponse exposes the client-measured round-trip time");
+
+        mockServer.mockGet("/metrics/timed", 200, "{}");
+        apiClient.get("/metrics/timed").assertStatusCode(200).assertResponseTimeBelow(5000);
+
+        mockServer.mockWithDelay("GET", "/metrics/slow", 200, "{}", 200);
+        try {
+            apiClient.get("/metrics/slow").assertResponseTimeBelow(100);
+            throw new IllegalStateException("Expected the response time assertion to fail");
+        } catch (AssertionError expected) {
+            logStep("Slow response rejected: " + expected.getMessage());
+        }
+    }
+
+    @Test(description = "A scoped registry only sees its own thread's requests")
+    public void testLatencyScope() throws Exception {
+        logTestInfo("testLatencyScope", "Requests from an unscoped thread stay out of the scope; async requests carry it");
+
+        mockServer.mockGet("/metrics/scoped", 200, "{}");
+        mockServer.mockPost("/metrics/scoped", 201, "{}");
+        EndpointKey read = new EndpointKey("GET", "/metrics/scoped", "2xx");
+        LatencyRegistry previous = LatencyRegistry.getScope();
+        LatencyRegistry scope = new LatencyRegistry();
+        LatencyRegistry.setScope(scope);
+        try {
+            apiClient.get("/metrics/scoped").assertStatusCode(200);
+            Thread other = new Thread(MockNamespace.bind(() -> {
+                apiClient.get("/metrics/scoped");
+            }));
+            other.start();
+            other.join();
+            apiClient.postAsync("/metrics/scoped", "{}").join().assertStatusCode(201);
+        } finally {
+            LatencyRegistry.setScope(previous);
+        }
+
+        assert scope.get(read).getTotalCount() == 1 : "Scope recorded " + scope.get(read).getTotalCount() + " reads";
+        assert scope.get(new EndpointKey("POST", "/metrics/scoped", "2xx")) != null : "Async request missing from the scope";
+        assert LatencyRegistry.getInstance().get(read).getTotalCount() >= 2 : "Process-wide registry missed a read";
+    }
+
+    @Test(description = "Request phases are captured per response and per endpoint")
+    public void testRequestPhaseTimings() {
+        logTestInfo("testRequestPhaseTimings", "A delayed stub shows up as wait time, not as connect or transfer time");
+
+        mockServer.mockWithDelay("GET", "/metrics/phases", 200, "{\"status\":\"ok\"}", 150);
+        ApiResponse response = apiClient.get("/metrics/phases");
+        PhaseTimings timings = response.getPhaseTimings();
+        logStep("Phase timings: " + timings);
+
+        assert timings != null : "Expected phase timings on the response";
+        assert !timings.isConnectionReused() : "Expected a new connection to be opened";
+        assert timings.getNanos(RequestPhase.CONNECT) > 0 : "Expected connect time to be recorded: " + timings;
+        assert timings.getNanos(RequestPhase.TLS) == 0 : "Expected no TLS over http: " + timings;
+        assert timings.getWaitMs() >= 140 : "Expected the stub delay in wait time: " + timings;
+        assert timings.getConnectMs() < 100 && timings.getTransferMs() < 100 : "Expected fast loopback connect and transfer: " + timings;
+        assert timings.getTimeToFirstByteMs() <= timings.getTotalMs() : "TTFB exceeds the total: " + timings;
+
+        PhaseStats stats = LatencyRegistry.getInstance().getPhases(new EndpointKey("GET", "/metrics/phases", "2xx"));
+        assert stats != null && stats.getRequests() >= 1 && stats.getNewConnections() >= 1 : "Expected per-endpoint phase statistics";
+        assert stats.get(RequestPhase.WAIT).getValueAtPercentile(50) >= 140_000 : "Expected wait p50 of the delayed stub";
+    }
+
+    @Test(description = "Histograms survive encoding without losing precision")
+    public void testHistogramEncoding() {
+        logTestInfo("testHistogramEncoding", "Encoded and decoded histograms report identical statistics");
+
+        LatencyHistogram original = new LatencyHistogram();
+        Random random = new Random(7);
+        for (int i = 0; i < 10000; i++) {
+            original.recordValue((long) (1000 * Math.exp(random.nextGaussian())));
+        }
+        LatencyHistogram decoded = LatencyHistogram.decode(original.encode());
+
+        assert decoded.getTotalCount() == original.getTotalCount() : "Count changed after decoding";
+        assert decoded.getMinValue() == original.getMinValue() && decoded.getMaxValue() == original.getMaxValue() : "Min/max changed after decoding";
+        for (double percentile : new double[]{50, 90, 99, 99.9}) {
+            assert decoded.getValueAtPercentile(percentile) == original.getValueAtPercentile(percentile) : "p" + percentile + " changed after decoding";
+        }
+        assert decoded.encode().equals(original.encode()) : "Re-encoding is not stable";
+    }
+
+    @Test(description = "Regression gate separates real shifts from noise")
+    public void testRegressionGate() throws Exception {
+        logTestInfo("testRegressionGate", "A 30% slower endpoint regresses, a resample of the same distribution does not");
+
+        Random random = new Random(11);
+        EndpointKey stable = new EndpointKey("GET", "/gate/stable", "2xx");
+        EndpointKey slower = new EndpointKey("GET", "/gate/slower", "2xx");
+        EndpointKey sparse = new EndpointKey("GET", "/gate/sparse", "2xx");
+        Map<EndpointKey, LatencyHistogram> baselineRun = new HashMap<>();
+        Map<EndpointKey, LatencyHistogram> currentRun = new HashMap<>();
+        baselineRun.put(stable, logNormal(random, 20_000, 500));
+        baselineRun.put(slower, logNormal(random, 20_000, 500));
+        baselineRun.put(sparse, logNormal(random, 20_000, 5));
+        currentRun.put(stable, logNormal(random, 20_000, 500));
+        currentRun.put(slower, logNormal(random, 26_000, 500));
+        currentRun.put(sparse, logNormal(random, 60_000, 5));
+
+        Path file = Files.createTempDirectory("baselines").resolve("qa.json");
+        PerformanceBaseline.of("qa", baselineRun, 60, null).save(file);
+        PerformanceBaseline baseline = PerformanceBaseline.load(file);
+        assert baseline != null && baseline.getRevision() == 1 && baseline.getHistograms().size() == 3 : "Baseline did not round trip";
+
+        List<RegressionGate.Comparison> comparisons = new RegressionGate(0.01, 10, 20).compare(baseline, currentRun, 60);
+        Map<EndpointKey, RegressionGate.Verdict> verdicts = new HashMap<>();
+        comparisons.forEach(c -> verdicts.put(c.getKey(), c.getVerdict()));
+        logStep("Gate verdicts: " + verdicts);
+
+        assert verdicts.get(stable) == RegressionGate.Verdict.UNCHANGED : "Expected stable endpoint unchanged: " + verdicts;
+        assert verdicts.get(slower) == RegressionGate.Verdict.REGRESSION : "Expected slower endpoint to regress: " + verdicts;
+        assert verdicts.get(sparse) == RegressionGate.Verdict.INSUFFICIENT_DATA : "Expected sparse endpoint not to be judged: " + verdicts;
+        assert RegressionGate.regressions(comparisons).size() == 1 : "Expected exactly one regression";
+        assert Arrays.stream(RegressionGate.reportTable(comparisons))
+                .anyMatch(row -> row[0].equals("GET") && row[1].equals("/gate/slower") && row[row.length - 1].equals("REGRESSION"))
+                : "Report row does not name the method of the regressed endpoint";
+    }
+
+    @Test(description = "Client and mock-server metrics are exported in OpenMetrics format")
+    public void testOpenMetricsExport() throws Exception {
+        logTestInfo("testOpenMetricsExport", "Scrape /metrics and the exported file after requests and a failed call");
+
+        mockServer.mockGet("/metrics/export/{id}", 200, "{}");
+        apiClient.get("/metrics/export/1");
+        apiClient.get("/metrics/export/2");
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        try {
+            new RestApiClient("http://localhost:" + closedPort).get("/unreachable");
+            throw new IllegalStateException("Expected the request to a closed port to fail");
+        } catch (ApiException expected) {
+            logStep("Request to closed port failed: " + expected.getCause());
+        }
+
+        OpenMetricsExporter exporter = new OpenMetricsExporter(MetricsRegistry.getInstance());
+        int port = exporter.startHttpEndpoint(0);
+        try {
+            ApiResponse scrape = new RestApiClient("http://localhost:" + port).get("/metrics");
+            scrape.assertStatusCode(200);
+            String text = scrape.getBody();
+            assert scrape.getHeader("Content-Type").startsWith("application/openmetrics-text") : "Unexpected content type";
+            assert text.endsWith("# EOF\n") : "Exposition must end with # EOF";
+            assert text.contains("# TYPE api_client_requests counter") : "Missing requests family";
+            assert text.contains("api_client_requests_total{method=\"GET\",endpoint=\"/metrics/export/{id}\",status=\"2xx\"} 2")
+                    : "Missing request counter for /metrics/export/{id}";
+            assert text.contains("api_client_request_duration_seconds_bucket{method=\"GET\",endpoint=\"/metrics/export/{id}\",status=\"2xx\",le=\"+Inf\"} 2")
+                    : "Missing duration histogram";
+            assert text.contains(",le=\"0.0005\"}") && text.contains(",le=\"1.0\"}") && text.contains(",le=\"10.0\"}")
+                    : "Bucket bounds are not canonical floats";
+            assert text.contains("api_client_errors_total{method=\"GET\",endpoint=\"/unreachable\",cause=") : "Missing error counter";
+            assert text.contains("mock_server_requests_total{port=\"" + mockServer.getPort() + "\"}") : "Missing mock server throughput";
+            assert text.contains("api_client_connections_opened_total") : "Missing connection counter";
+
+            Path file = Files.createTempDirectory("metrics").resolve("metrics.txt");
+            exporter.writeTo(file);
+            assert new String(Files.readAllBytes(file), StandardCharsets.UTF_8).endsWith("# EOF\n") : "Exported file is incomplete";
+        } finally {
+            exporter.stop();
+        }
+    }
+
+    private static LatencyHistogram logNormal(Random random, double medianMicros, int samples) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < samples; i++) {
+            histogram.recordValue((long) (medianMicros * Math.exp(0.3 * random.nextGaussian())));
+        }
+        return histogram;
+    }
+
+    private static void assertWithinPrecision(long actual, long expected) {
+        assert Math.abs(actual - expected) <= expected / 64 + 1 : "Expected ~" + expected + " but got " + actual;
+    }
+}
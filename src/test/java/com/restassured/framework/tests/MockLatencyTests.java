@@ -0,0 +1,99 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.mocks.LatencyDistribution;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test class for latency injection in the mock server
+ */
+public class MockLatencyTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startLatencyServer() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Concurrent delayed responses do not hold worker threads")
+    public void testConcurrentDelayedResponses() throws Exception {
+        logTestInfo("testConcurrentDelayedResponses", "More delayed requests in flight than mock server workers");
+
+        mockServer.mockWithDelay("GET", "/slow", 200, "{\"message\": \"delayed response\"}", 500);
+        int clients = 64;
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            long startTime = System.currentTimeMillis();
+            List<Future<ApiResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(pool.submit(MockNamespace.bind(() -> apiClient.get("/slow"))));
+            }
+            long slowestWaitMs = 0;
+            for (Future<ApiResponse> future : futures) {
+                ApiResponse response = future.get().assertStatusCode(200);
+                slowestWaitMs = Math.max(slowestWaitMs, Math.round(response.getPhaseTimings().getWaitMs()));
+            }
+            long elapsed = System.currentTimeMillis() - startTime;
+
+            // 64 requests on 16 workers would leave the last ones waiting >= 2s if each delay parked a thread.
+            // Wait time runs from sending to the first byte, so slow client threads on a busy runner do not count.
+            assert elapsed >= 500 : "Expected delay of at least 500ms, but got " + elapsed + "ms";
+            assert slowestWaitMs < 1900 : "Delayed responses were serialized on worker threads: slowest waited " + slowestWaitMs + "ms";
+            logStep("Served " + clients + " concurrent delayed responses in " + elapsed + "ms, slowest waited " + slowestWaitMs + "ms");
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Latency distributions stay within their bounds")
+    public void testLatencyDistributions() {
+        logTestInfo("testLatencyDistributions", "Sample uniform, log-normal and percentile-table latencies");
+
+        LatencyDistribution uniform = LatencyDistribution.uniform(10, 20);
+        Map<Double, Long> table = new TreeMap<>();
+        table.put(50.0, 20L);
+        table.put(99.0, 180L);
+        table.put(100.0, 900L);
+        LatencyDistribution recorded = LatencyDistribution.percentiles(table);
+        LatencyDistribution logNormal = LatencyDistribution.logNormal(20, 200);
+
+        int aboveMedian = 0;
+        for (int i = 0; i < 10000; i++) {
+            long u = uniform.sampleMillis();
+            assert u >= 10 && u <= 20 : "Uniform sample out of range: " + u;
+            long r = recorded.sampleMillis();
+            assert r >= 20 && r <= 900 : "Percentile sample out of range: " + r;
+            if (logNormal.sampleMillis() > 20) {
+                aboveMedian++;
+            }
+        }
+        assert aboveMedian > 4000 && aboveMedian < 6000 : "Log-normal median is off: " + aboveMedian + "/10000 above";
+    }
+
+    @Test(description = "Stub with latency distribution")
+    public void testStubWithLatencyDistribution() {
+        logTestInfo("testStubWithLatencyDistribution", "Stub delay drawn from a uniform distribution");
+
+        mockServer.mockWithLatency("GET", "/jitter", 200, "{\"ok\": true}", LatencyDistribution.uniform(100, 150));
+
+        long startTime = System.currentTimeMillis();
+        validateSuccessResponse(apiClient.get("/jitter"));
+        long elapsed = System.currentTimeMillis() - startTime;
+
+        assert elapsed >= 100 : "Expected delay of at least 100ms, but got " + elapsed + "ms";
+    }
+}
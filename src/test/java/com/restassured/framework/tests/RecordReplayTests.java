@@ -0,0 +1,130 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.mocks.ExchangeStore;
+import com.restassured.framework.utils.DataUtils;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test class for record-and-replay proxy mode of the mock server
+ */
+public class RecordReplayTests extends BaseTest {
+
+    @Test(description = "Record through proxy and replay offline")
+    public void testRecordAndReplay() throws Exception {
+        logTestInfo("testRecordAndReplay", "Record exchanges against a backend, then replay without it");
+
+        Path directory = Files.createTempDirectory("recordings");
+        Path storeFile = directory.resolve("exchanges.rec");
+        ApiMockServer backend = new ApiMockServer(0);
+        ApiMockServer recorder = new ApiMockServer(0);
+        ApiMockServer replayer = new ApiMockServer(0);
+        try {
+            backend.start();
+            backend.mockGet("/users/1", 200, "{\"id\": 1, \"name\": \"Recorded User\"}");
+            backend.mockPost("/users", 201, "{\"id\": 11}");
+
+            recorder.enableRecording(backend.getBaseUrl(), storeFile);
+            recorder.start();
+            RestApiClient recordingClient = new RestApiClient(recorder.getBaseUrl());
+            recordingClient.get("/users/1").assertStatusCode(200);
+            recordingClient.post("/users", DataUtils.createTestData("name", "New")).assertStatusCode(201);
+            recorder.stop();
+            backend.stop();
+
+            replayer.enableReplay(storeFile);
+            replayer.start();
+            RestApiClient replayClient = new RestApiClient(replayer.getBaseUrl());
+            replayClient.get("/users/1").assertStatusCode(200).assertJsonPathValue("name", "Recorded User");
+            replayClient.post("/users", DataUtils.createTestData("name", "New")).assertStatusCode(201);
+            validateErrorResponse(replayClient.post("/users", DataUtils.createTestData("name", "Other")), 404);
+        } finally {
+            for (ApiMockServer server : List.of(replayer, recorder, backend)) {
+                if (server.isRunning()) {
+                    server.stop();
+                }
+            }
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test(description = "Reopen a large exchange store")
+    public void testReopenLargeStore() throws Exception {
+        logTestInfo("testReopenLargeStore", "Index a store with many recorded exchanges");
+
+        Path directory = Files.createTempDirectory("recordings");
+        Path storeFile = directory.resolve("large.rec");
+        int exchanges = 100000;
+        try {
+            try (ExchangeStore store = ExchangeStore.open(storeFile)) {
+                for (int i = 0; i < exchanges; i++) {
+                    byte[] body = ("{\"id\": " + i + "}").getBytes(StandardCharsets.UTF_8);
+                    store.append(ExchangeStore.keyFor("GET", "/users/" + i, null, null),
+                            new ExchangeStore.RecordedExchange(200, Map.of("Content-Type", "application/json"), body));
+                }
+            }
+
+            long startTime = System.currentTimeMillis();
+            try (ExchangeStore store = ExchangeStore.open(storeFile)) {
+                long elapsed = System.currentTimeMillis() - startTime;
+                assert store.size() == exchanges : "Expected " + exchanges + " exchanges but got " + store.size();
+                ExchangeStore.RecordedExchange recorded = store.find(ExchangeStore.keyFor("GET", "/users/77777", null, null));
+                assert "{\"id\": 77777}".equals(new String(recorded.getBody(), StandardCharsets.UTF_8));
+                logStep("Indexed " + exchanges + " recorded exchanges in " + elapsed + "ms");
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    @Test(description = "Reject a corrupt exchange store")
+    public void testCorruptStore() throws Exception {
+        logTestInfo("testCorruptStore", "A negative key length fails with an IOException naming the file");
+
+        Path directory = Files.createTempDirectory("recordings");
+        Path storeFile = directory.resolve("corrupt.rec");
+        try {
+            try (ExchangeStore store = ExchangeStore.open(storeFile)) {
+                store.append(ExchangeStore.keyFor("GET", "/users/1", null, null),
+                        new ExchangeStore.RecordedExchange(200, Map.of(), new byte[0]));
+            }
+            // Key length of the first record, after the 8-byte magic and the record length
+            try (FileChannel channel = FileChannel.open(storeFile, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(4).putInt(0, -1), 12);
+            }
+            try (ExchangeStore ignored = ExchangeStore.open(storeFile)) {
+                throw new AssertionError("Corrupt store was opened");
+            } catch (RuntimeException expected) {
+                Throwable cause = expected.getCause();
+                assert cause instanceof IOException : "Expected an IOException but got " + cause;
+                assert cause.getMessage().contains(storeFile.toString()) : "Error does not name the file: " + cause.getMessage();
+                logStep("Corrupt store rejected: " + cause.getMessage());
+            }
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.core.ApiException;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.resilience.AdaptiveConcurrencyLimit;
+import com.restassured.framework.resilience.CircuitBreaker;
+import com.restassured.framework.resilience.CircuitBreakerRegistry;
+import com.restassured.framework.resilience.CircuitOpenException;
+import com.restassured.framework.resilience.HedgePolicy;
+import com.restassured.framework.resilience.ConcurrencyLimiter;
+import com.restassured.framework.resilience.RateLimiter;
+import com.restassured.framework.resilience.TokenBucket;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for client-side resilience: rate limiting, adaptive concurrency, circuit breakers and hedging.
+ * Methods run one at a time, since rates, hedge counts and limits are measured against one server.
+ */
+@Test(singleThreaded = true)
+public class ResilienceTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startResilienceServer() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Token bucket allows the burst, then paces at the configured rate")
+    public void testTokenBucketPacing() {
+        logTestInfo("testTokenBucketPacing", "A 10/s bucket with burst 3 hands out 3 tokens at once, then one per 100 ms");
+
+        TokenBucket bucket = new TokenBucket(10, 3);
+        for (int i = 0; i < 3; i++) {
+            assert bucket.tryAcquire() : "Burst token " + i + " was not available";
+        }
+        assert !bucket.tryAcquire() : "Bucket handed out more than its burst";
+
+        long wait = bucket.reserve();
+        assert wait > 0 && wait <= TimeUnit.MILLISECONDS.toNanos(100) : "First reserved slot waits " + wait + " ns";
+        long next = bucket.reserve();
+        assert next - wait >= TimeUnit.MILLISECONDS.toNanos(95) : "Reserved slots are only " + (next - wait) + " ns apart";
+    }
+
+    @Test(description = "Concurrent clients sharing a limiter never exceed its rate")
+    public void testRateLimitAcrossThreads() throws Exception {
+        logTestInfo("testRateLimitAcrossThreads", "4 threads sending 24 requests through a 20/s limit take at least a second");
+
+        mockServer.mockGet("/limited/items/{id}", 200, "{}");
+        RateLimiter limiter = new RateLimiter("", "GET /limited/items/{id} 20/s burst 5");
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setRateLimiter(limiter);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        long start = System.nanoTime();
+        try {
+            List<Future<ApiResponse>> responses = new ArrayList<>();
+            for (int i = 1; i <= 24; i++) {
+                String endpoint = "/limited/items/" + i;
+                responses.add(pool.submit(MockNamespace.bind(() -> client.get(endpoint))));
+            }
+            for (Future<ApiResponse> response : responses) {
+                assert response.get().getStatusCode() == 200 : "Rate-limited request failed";
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // 5 burst tokens, the remaining 19 at 50 ms intervals
+        assert elapsedMs >= 900 : "24 requests at 20/s finished in " + elapsedMs + " ms";
+        assert limiter.getThrottledCount() > 0 : "No request was throttled";
+        logStep("24 requests took " + elapsedMs + " ms, throttled " + limiter.getThrottledMillis() + " ms in total");
+    }
+
+    @Test(description = "Async requests wait for their slot without holding the caller")
+    public void testAsyncRateLimit() {
+        logTestInfo("testAsyncRateLimit", "getAsync returns immediately and completes once the host limit allows it");
+
+        mockServer.mockGet("/limited/async", 200, "{\"ok\": true}");
+        RateLimiter limiter = new RateLimiter("* 10/s", "");
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setRateLimiter(limiter);
+
+        long start = System.nanoTime();
+        List<CompletableFuture<ApiResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            responses.add(client.getAsync("/limited/async"));
+        }
+        long submitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assert submitMs < 400 : "Submitting async requests blocked for " + submitMs + " ms";
+        assert elapsedMs >= 450 : "6 requests at 10/s finished in " + elapsedMs + " ms";
+        for (CompletableFuture<ApiResponse> response : responses) {
+            assert response.join().getStatusCode() == 200 : "Async request failed";
+        }
+    }
+
+    @Test(description = "Interrupting a request waiting for its rate limit slot fails it")
+    public void testRateLimitWaitInterrupted() throws Exception {
+        logTestInfo("testRateLimitWaitInterrupted", "The waiting thread gets an ApiException and keeps its interrupt flag");
+
+        mockServer.mockGet("/limited/interrupted", 200, "{}");
+        RateLimiter limiter = new RateLimiter("* 1/s burst 1", "");
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setRateLimiter(limiter);
+        client.get("/limited/interrupted").assertStatusCode(200);
+
+        CompletableFuture<Boolean> interruptFlag = new CompletableFuture<>();
+        Thread waiter = new Thread(MockNamespace.bind(() -> {
+            try {
+                client.get("/limited/interrupted");
+                interruptFlag.completeExceptionally(new AssertionError("Request was sent despite the interrupt"));
+            } catch (ApiException e) {
+                interruptFlag.complete(Thread.currentThread().isInterrupted());
+            }
+        }));
+        long start = System.nanoTime();
+        waiter.start();
+        Thread.sleep(100);
+        waiter.interrupt();
+
+        assert interruptFlag.get(5, TimeUnit.SECONDS) : "Interrupt flag was cleared";
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assert elapsedMs < 800 : "Interrupted wait still took " + elapsedMs + " ms";
+    }
+
+    @Test(description = "Malformed rate limit rules are rejected")
+    public void testInvalidRateLimitRule() {
+        logTestInfo("testInvalidRateLimitRule", "Rules without a rate fail fast");
+
+        try {
+            new RateLimiter("", "GET /users fast");
+            assert false : "Malformed rule was accepted";
+        } catch (IllegalArgumentException e) {
+            assert e.getMessage().contains("GET /users fast") : "Unexpected message: " + e.getMessage();
+        }
+    }
+
+    @Test(description = "Adaptive limit grows while latency stays flat")
+    public void testConcurrencyLimitGrows() throws Exception {
+        logTestInfo("testConcurrencyLimitGrows", "Saturating a backend with constant latency raises the limit from 2");
+
+        mockServer.mockWithDelay("GET", "/adaptive/flat", 200, "{}", 20);
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 2, 1, 50);
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setConcurrencyLimiter(limiter);
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<ApiResponse>> responses = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                responses.add(pool.submit(MockNamespace.bind(() -> client.get("/adaptive/flat"))));
+            }
+            for (Future<ApiResponse> response : responses) {
+                assert response.get().getStatusCode() == 200 : "Request under the adaptive limit failed";
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        AdaptiveConcurrencyLimit limit = limiter.getLimits().values().iterator().next();
+        logStep("Limit after 200 requests: " + limit);
+        assert limit.getLimit() > 2 : "Limit did not grow: " + limit;
+        assert limit.getInFlight() == 0 : "Permits leaked: " + limit;
+    }
+
+    @Test(description = "Adaptive limit shrinks as queueing builds and on overload")
+    public void testConcurrencyLimitShrinks() throws Exception {
+        logTestInfo("testConcurrencyLimitShrinks", "Round trips far above the fastest one, and 503s, cut the limit");
+
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit("queueing", 20, 1, 50);
+        List<AdaptiveConcurrencyLimit.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            permits.add(limit.acquire());
+        }
+        CompletableFuture<AdaptiveConcurrencyLimit.Permit> queued = limit.acquireAsync();
+        assert !queued.isDone() && limit.getQueued() == 1 : "Request beyond the limit was not queued: " + limit;
+
+        // The first release sets the unloaded round trip, the rest look queued behind it
+        permits.get(0).release(false);
+        assert queued.isDone() : "Queued request did not get the freed slot";
+        Thread.sleep(50);
+        for (AdaptiveConcurrencyLimit.Permit permit : permits.subList(1, permits.size())) {
+            permit.release(false);
+        }
+        int afterQueueing = limit.getLimit();
+        assert afterQueueing < 20 : "Limit did not shrink under queueing: " + limit;
+
+        mockServer.mockGet("/adaptive/overloaded", 503, "{}");
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(true, 10, 1, 50);
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setConcurrencyLimiter(limiter);
+        for (int i = 0; i < 5; i++) {
+            client.get("/adaptive/overloaded");
+        }
+        AdaptiveConcurrencyLimit overloaded = limiter.getLimits().values().iterator().next();
+        assert overloaded.getLimit() < 10 : "503 responses did not shrink the limit: " + overloaded;
+        queued.join().release(false);
+    }
+
+    @Test(description = "Circuit opens on a dead backend and fails fast with the cause")
+    public void testCircuitOpensOnDeadBackend() throws Exception {
+        logTestInfo("testCircuitOpensOnDeadBackend", "After 3 refused connections the circuit opens and rejects calls without the network");
+
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(true, new CircuitBreaker.Settings(50, 100, 10000, 10, 3, 60000, 1));
+        RestApiClient client = new RestApiClient("http://localhost:" + deadPort);
+        client.setCircuitBreakers(breakers);
+
+        for (int i = 1; i <= 3; i++) {
+            try {
+                client.get("/dead/users/" + i);
+                assert false : "Request to a closed port succeeded";
+            } catch (CircuitOpenException e) {
+                assert false : "Circuit opened before the minimum number of calls: " + e.getMessage();
+            } catch (ApiException e) {
+                // Expected: connection refused
+            }
+        }
+        CircuitBreaker breaker = breakers.getBreakers().get("GET /dead/users/{id}");
+        assert breaker.getState() == CircuitBreaker.State.OPEN : "Circuit did not open: " + breaker;
+
+        long start = System.nanoTime();
+        try {
+            client.get("/dead/users/4");
+            assert false : "Open circuit let a request through";
+        } catch (CircuitOpenException e) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            logStep("Failed fast in " + elapsedMs + " ms: " + e.getMessage());
+            assert elapsedMs < 50 : "Open circuit took " + elapsedMs + " ms to fail";
+            assert "GET /dead/users/{id}".equals(e.getEndpoint()) : "Unexpected endpoint " + e.getEndpoint();
+            assert e.getMessage().contains("3 of 3 recent calls failed") : "Unclear message: " + e.getMessage();
+            assert e.getCause() instanceof ConnectException || e.getCause().getCause() instanceof ConnectException
+                    : "Cause is not the refused connection: " + e.getCause();
+        }
+
+        List<CircuitBreaker.Transition> transitions = breakers.getTransitions();
+        assert transitions.size() == 1 && transitions.get(0).getTo() == CircuitBreaker.State.OPEN
+                : "Unexpected transitions " + transitions;
+        assert breakers.transitionTable().length == 2 : "Transition table has no row for the opening";
+    }
+
+    @Test(description = "Half-open probes close the circuit once the backend recovers")
+    public void testCircuitHalfOpenRecovery() throws Exception {
+        logTestInfo("testCircuitHalfOpenRecovery", "5xx responses open the circuit, a failed probe re-opens it, successful probes close it");
+
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(true, new CircuitBreaker.Settings(50, 100, 10000, 4, 4, 200, 2));
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setCircuitBreakers(breakers);
+
+        mockServer.mockGet("/flaky", 500, "{}");
+        for (int i = 0; i < 4; i++) {
+            assert client.get("/flaky").getStatusCode() == 500 : "Expected the stubbed 500";
+        }
+        CircuitBreaker breaker = breakers.getBreakers().get("GET /flaky");
+        assert breaker.getState() == CircuitBreaker.State.OPEN : "Circuit did not open on 5xx: " + breaker;
+
+        Thread.sleep(250);
+        client.get("/flaky");
+        assert breaker.getState() == CircuitBreaker.State.OPEN : "Failed probe did not re-open the circuit: " + breaker;
+
+        Thread.sleep(250);
+        mockServer.mockGet("/flaky", 200, "{}");
+        assert client.get("/flaky").getStatusCode() == 200 : "First probe failed";
+        assert breaker.getState() == CircuitBreaker.State.HALF_OPEN : "Circuit closed after a single probe: " + breaker;
+        assert client.get("/flaky").getStatusCode() == 200 : "Second probe failed";
+        assert breaker.getState() == CircuitBreaker.State.CLOSED : "Circuit did not close: " + breaker;
+
+        List<CircuitBreaker.State> states = new ArrayList<>();
+        for (CircuitBreaker.Transition transition : breakers.getTransitions()) {
+            states.add(transition.getTo());
+        }
+        assert states.equals(List.of(CircuitBreaker.State.OPEN, CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.OPEN,
+                CircuitBreaker.State.HALF_OPEN, CircuitBreaker.State.CLOSED)) : "Unexpected transitions " + states;
+    }
+
+    @Test(description = "Slow calls open the circuit")
+    public void testCircuitOpensOnSlowCalls() {
+        logTestInfo("testCircuitOpensOnSlowCalls", "Calls above the slow-call duration count against the circuit");
+
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(true, new CircuitBreaker.Settings(50, 50, 100, 4, 2, 60000, 1));
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setCircuitBreakers(breakers);
+
+        mockServer.mockWithDelay("GET", "/sluggish", 200, "{}", 150);
+        client.get("/sluggish");
+        client.get("/sluggish");
+        try {
+            client.get("/sluggish");
+            assert false : "Circuit stayed closed after slow calls";
+        } catch (CircuitOpenException e) {
+            assert e.getMessage().contains("took over 100 ms") : "Unclear message: " + e.getMessage();
+        }
+    }
+
+    @Test(description = "A slow GET is hedged and the faster hedge wins")
+    public void testHedgedRequestWins() throws Exception {
+        logTestInfo("testHedgedRequestWins", "The first request is held until the test ends, the hedge sent after 100 ms answers at once");
+
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean primaryHeld = new AtomicBoolean();
+        HedgePolicy policy = new HedgePolicy(true, 95, 1000, 100, 5, 100);
+        mockServer.mockWithLatency("GET", "/hedged/users/{id}", 200, "{\"id\": 1}", () -> {
+            if (calls.getAndIncrement() > 0) {
+                return 0;
+            }
+            // Before any hedge went out, the first exchange can only be the original request
+            primaryHeld.set(policy.getHedges() == 0);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        });
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setHedgePolicy(policy);
+
+        long start = System.nanoTime();
+        ApiResponse response;
+        try {
+            response = client.get("/hedged/users/1");
+        } finally {
+            release.countDown();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assert response.getStatusCode() == 200 : "Hedged request failed";
+        assert policy.getHedges() == 1 : "Expected one hedge, got " + policy.getHedges();
+        assert calls.get() == 2 : "Backend saw " + calls.get() + " requests";
+        assert !primaryHeld.get() || policy.getHedgeWins() == 1 : "The held original request won over the hedge";
+        logStep("Hedged request answered in " + elapsedMs + " ms");
+    }
+
+    @Test(description = "Hedges never push the send rate over the rate limit")
+    public void testHedgesRespectRateLimit() throws Exception {
+        logTestInfo("testHedgesRespectRateLimit", "Slow GETs through a 10/s limit are only hedged with spare slots");
+
+        mockServer.mockWithDelay("GET", "/hedged/limited/{id}", 200, "{}", 150);
+        RateLimiter limiter = new RateLimiter("", "GET /hedged/limited/{id} 10/s burst 2");
+        HedgePolicy policy = new HedgePolicy(true, 95, 1000, 10, 5, 100);
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setRateLimiter(limiter);
+        client.setHedgePolicy(policy);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        long start = System.nanoTime();
+        try {
+            List<Future<ApiResponse>> responses = new ArrayList<>();
+            for (int i = 1; i <= 24; i++) {
+                String endpoint = "/hedged/limited/" + i;
+                responses.add(pool.submit(MockNamespace.bind(() -> client.get(endpoint))));
+            }
+            for (Future<ApiResponse> response : responses) {
+                assert response.get().getStatusCode() == 200 : "Rate-limited hedged request failed";
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Every request sent, hedge or not, needs a slot: the burst plus one per 100 ms, and the one due right now
+        int sent = mockServer.countRequests("GET", "/hedged/limited/{id}");
+        long slots = 2 + elapsedMs / 100 + 1;
+        assert sent == 24 + policy.getHedges() : "Backend saw " + sent + " requests for 24 calls and " + policy.getHedges() + " hedges";
+        assert sent <= slots : sent + " requests in " + elapsedMs + " ms exceed the " + slots + " slots of the 10/s limit";
+        logStep(sent + " requests including " + policy.getHedges() + " hedges in " + elapsedMs + " ms");
+    }
+
+    @Test(description = "Hedges stay within the budget and are never sent for writes")
+    public void testHedgeBudget() {
+        logTestInfo("testHedgeBudget", "With a 10% budget, 10 slow GETs send a single hedge; POSTs are never hedged");
+
+        mockServer.mockWithDelay("GET", "/hedged/slow", 200, "{}", 60);
+        mockServer.mockWithDelay("POST", "/hedged/slow", 201, "{}", 60);
+        HedgePolicy policy = new HedgePolicy(true, 95, 1000, 20, 5, 10);
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setHedgePolicy(policy);
+
+        for (int i = 0; i < 10; i++) {
+            assert client.get("/hedged/slow").getStatusCode() == 200 : "Budgeted GET failed";
+        }
+        assert client.post("/hedged/slow", "{}").getStatusCode() == 201 : "POST failed";
+
+        assert policy.getRequests() == 10 : "POST was counted as hedgeable: " + policy.getRequests();
+        assert policy.getHedges() == 1 : "Budget of 10% allowed " + policy.getHedges() + " hedges for 10 requests";
+    }
+}
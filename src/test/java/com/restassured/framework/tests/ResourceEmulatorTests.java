@@ -0,0 +1,133 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.constants.ApiConstants;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.mocks.ResourceEmulator;
+import com.restassured.framework.utils.DataUtils;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test class for the in-memory JSONPlaceholder resource emulator
+ */
+public class ResourceEmulatorTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startEmulator() {
+        mockServer = new ApiMockServer(0);
+        mockServer.enableResourceEmulator(ResourceEmulator.fromSeed(
+                DataUtils.readJsonFile(ApiConstants.TEST_DATA_PATH + "/jsonplaceholder-seed.json")));
+        mockServer.start();
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Read seeded resources")
+    public void testReadSeededResources() {
+        logTestInfo("testReadSeededResources", "Get seeded users, posts and nested comments");
+
+        apiClient.get(ApiConstants.USERS_ENDPOINT + "/1").assertStatusCode(200).assertJsonPathValue("name", "Leanne Graham");
+        validateErrorResponse(apiClient.get(ApiConstants.USERS_ENDPOINT + "/999999"), 404);
+
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("userId", "1");
+        List<Object> posts = apiClient.get(ApiConstants.POSTS_ENDPOINT, null, queryParams).getListValue("$");
+        assert posts.size() == 3 : "Expected 3 posts for userId=1 but got " + posts.size();
+
+        List<Object> comments = apiClient.get(ApiConstants.POSTS_ENDPOINT + "/1" + ApiConstants.COMMENTS_ENDPOINT).getListValue("$");
+        assert comments.size() == 2 : "Expected 2 comments for post 1 but got " + comments.size();
+    }
+
+    @Test(description = "Paging and sorting")
+    public void testPagingAndSorting() {
+        logTestInfo("testPagingAndSorting", "Use _page, _limit, _sort and _order");
+
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put(ApiConstants.PAGE_PARAM, "2");
+        queryParams.put(ApiConstants.LIMIT_PARAM, "4");
+        queryParams.put(ApiConstants.SORT_PARAM, "title");
+        queryParams.put(ApiConstants.ORDER_PARAM, "desc");
+        ApiResponse response = apiClient.get(ApiConstants.TODOS_ENDPOINT, null, queryParams);
+
+        response.assertStatusCode(200);
+        response.assertHeaderValue("X-Total-Count", "40");
+        List<Object> titles = response.getListValue("$[*].title");
+        assert titles.size() == 4 : "Expected a page of 4 todos but got " + titles.size();
+        for (int i = 1; i < titles.size(); i++) {
+            assert ((String) titles.get(i - 1)).compareTo((String) titles.get(i)) >= 0 : "Todos are not sorted descending: " + titles;
+        }
+    }
+
+    @Test(description = "A test's writes are undone for the tests after it")
+    public void testDeleteThenGetIsolated() {
+        logTestInfo("testDeleteThenGetIsolated", "DELETE then GET of the same id in one namespace, the record is back in the next");
+
+        String methodNamespace = MockNamespace.get();
+        try {
+            MockNamespace.set("EmulatorDelete#1");
+            apiClient.delete(ApiConstants.USERS_ENDPOINT + "/1").assertStatusCode(200);
+            validateErrorResponse(apiClient.get(ApiConstants.USERS_ENDPOINT + "/1"), 404);
+
+            MockNamespace.set("EmulatorRead#2");
+            apiClient.get(ApiConstants.USERS_ENDPOINT + "/1").assertStatusCode(200).assertJsonPathValue("name", "Leanne Graham");
+
+            MockNamespace.set("EmulatorDelete#1");
+            mockServer.reset();
+            apiClient.get(ApiConstants.USERS_ENDPOINT + "/1").assertStatusCode(200).assertJsonPathValue("name", "Leanne Graham");
+        } finally {
+            MockNamespace.set(methodNamespace);
+        }
+    }
+
+    @Test(description = "Concurrent create, update and delete")
+    public void testConcurrentCrud() throws Exception {
+        logTestInfo("testConcurrentCrud", "Create, update and delete from parallel threads");
+
+        int writers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < writers * 10; i++) {
+                int index = i;
+                futures.add(pool.submit(MockNamespace.bind(() -> {
+                    ApiResponse created = apiClient.post(ApiConstants.POSTS_ENDPOINT,
+                            DataUtils.createTestData("title", "parallel " + index, "userId", "42"));
+                    created.assertStatusCode(201);
+                    int id = created.getIntValue("id");
+                    apiClient.patch(ApiConstants.POSTS_ENDPOINT + "/" + id, DataUtils.createTestData("title", "patched " + index))
+                            .assertStatusCode(200).assertJsonPathValue("title", "patched " + index);
+                    return id;
+                })));
+            }
+            Set<Integer> ids = new HashSet<>();
+            for (Future<Integer> future : futures) {
+                ids.add(future.get());
+            }
+            assert ids.size() == writers * 10 : "Expected unique ids for every created post, got " + ids.size();
+
+            int deleted = ids.iterator().next();
+            apiClient.delete(ApiConstants.POSTS_ENDPOINT + "/" + deleted).assertStatusCode(200);
+            validateErrorResponse(apiClient.get(ApiConstants.POSTS_ENDPOINT + "/" + deleted), 404);
+
+            Map<String, String> queryParams = new HashMap<>();
+            queryParams.put("userId", "42");
+            int remaining = apiClient.get(ApiConstants.POSTS_ENDPOINT, null, queryParams).getListValue("$").size();
+            assert remaining == writers * 10 - 1 : "Expected " + (writers * 10 - 1) + " posts for userId=42 but got " + remaining;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
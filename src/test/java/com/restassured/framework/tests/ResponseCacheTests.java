@@ -0,0 +1,197 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.cache.RequestCoalescer;
+import com.restassured.framework.cache.ResponseCache;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.mocks.StubMapping;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test class for the in-process response cache and request coalescing
+ */
+public class ResponseCacheTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startCacheServer() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Fresh responses are served from the cache")
+    public void testMaxAgeHit() {
+        logTestInfo("testMaxAgeHit", "A response with max-age=60 is fetched once and then served from memory");
+
+        mockServer.mockGet("/cache/users/1", 200, "{\"id\": 1, \"name\": \"Leanne\"}", Map.of("Cache-Control", "max-age=60"));
+        RestApiClient client = cachingClient(new ResponseCache(true, 1 << 20));
+
+        ApiResponse first = client.get("/cache/users/1");
+        ApiResponse second = client.get("/cache/users/1");
+
+        assert !first.isFromCache() : "First request claims to come from the cache";
+        assert second.isFromCache() : "Second request was not served from the cache";
+        assert second.getStatusCode() == 200 && second.getIntValue("id") == 1 : "Cached response differs: " + second;
+        assert mockServer.countRequests("GET", "/cache/users/1") == 1 : "Backend saw " + mockServer.countRequests("GET", "/cache/users/1") + " requests";
+    }
+
+    @Test(description = "Stale entries are revalidated with If-None-Match")
+    public void testEtagRevalidation() {
+        logTestInfo("testEtagRevalidation", "no-cache with an ETag costs a 304 instead of a full response");
+
+        mockServer.mockGet("/cache/config", 200, "{\"feature\": true}", Map.of("Cache-Control", "no-cache", "ETag", "\"v1\""));
+        mockServer.register(new StubMapping("GET", "/cache/config", 304, null, Map.of("ETag", "\"v1\""))
+                .withHeaderMatching("If-None-Match", "\"v1\""));
+        ResponseCache cache = new ResponseCache(true, 1 << 20);
+        RestApiClient client = cachingClient(cache);
+
+        client.get("/cache/config");
+        ApiResponse revalidated = client.get("/cache/config");
+
+        assert revalidated.isFromCache() : "304 did not serve the cached body";
+        assert revalidated.getStatusCode() == 200 : "Revalidated response has status " + revalidated.getStatusCode();
+        assert revalidated.getBooleanValue("feature") : "Cached body lost: " + revalidated.getBody();
+        assert mockServer.countRequests("GET", "/cache/config") == 2 : "Expected one full and one conditional request";
+        assert cache.getRevalidations() == 1 && cache.getMisses() == 1 : "Unexpected stats " + cache;
+    }
+
+    @Test(description = "Vary headers and writes are respected")
+    public void testVaryAndInvalidation() {
+        logTestInfo("testVaryAndInvalidation", "Other Accept-Language values miss, a PUT to the URL drops its entry");
+
+        mockServer.mockGet("/cache/greeting", 200, "{\"text\": \"hello\"}", Map.of("Cache-Control", "max-age=60", "Vary", "Accept-Language"));
+        mockServer.mockPut("/cache/greeting", 200, "{}");
+        ResponseCache cache = new ResponseCache(true, 1 << 20);
+        RestApiClient client = cachingClient(cache);
+
+        assert !client.get("/cache/greeting", Map.of("Accept-Language", "en")).isFromCache() : "Cold cache hit";
+        assert client.get("/cache/greeting", Map.of("Accept-Language", "en")).isFromCache() : "Same variant missed";
+        assert !client.get("/cache/greeting", Map.of("Accept-Language", "fr")).isFromCache() : "Other variant was served";
+
+        client.put("/cache/greeting", "{\"text\": \"bonjour\"}");
+        assert !client.get("/cache/greeting", Map.of("Accept-Language", "fr")).isFromCache() : "Entry survived a PUT to its URL";
+        assert cache.getHits() == 1 && cache.getMisses() == 3 : "Unexpected stats " + cache;
+    }
+
+    @Test(description = "Credentialed responses are not shared and async writes invalidate")
+    public void testCredentialsAndAsyncWrites() {
+        logTestInfo("testCredentialsAndAsyncWrites", "A 200 fetched with Authorization is not served without it; postAsync drops the entry");
+
+        mockServer.mockGet("/cache/account", 401, "{}");
+        mockServer.mockWithHeaderMatching("GET", "/cache/account", Map.of("Authorization", "Bearer .*"), 200, "{\"owner\": \"me\"}");
+        mockServer.register(new StubMapping("GET", "/cache/catalog", 200, "{}", Map.of("Cache-Control", "public, max-age=60")));
+        mockServer.mockPost("/cache/catalog", 201, "{}");
+        ResponseCache cache = new ResponseCache(true, 1 << 20);
+        RestApiClient client = cachingClient(cache);
+
+        Map<String, String> credentials = Map.of("Authorization", "Bearer token");
+        client.get("/cache/account", credentials).assertStatusCode(200);
+        assert !client.get("/cache/account", credentials).isFromCache() : "Private response was cached";
+        client.get("/cache/account").assertStatusCode(401);
+
+        client.get("/cache/catalog", credentials);
+        assert client.get("/cache/catalog", credentials).isFromCache() : "Public response fetched with credentials was not cached";
+        client.postAsync("/cache/catalog", "{}").join().assertStatusCode(201);
+        assert !client.get("/cache/catalog", credentials).isFromCache() : "Entry survived an async POST to its URL";
+    }
+
+    @Test(description = "Cache memory stays within its bound")
+    public void testBoundedEviction() {
+        logTestInfo("testBoundedEviction", "Least recently used entries are evicted past cache.max.bytes; no-store is never kept");
+
+        mockServer.mockGet("/cache/items/{id}", 200, "{\"payload\": \"" + "x".repeat(1000) + "\"}", Map.of("Cache-Control", "max-age=60"));
+        mockServer.mockGet("/cache/secret", 200, "{}", Map.of("Cache-Control", "no-store"));
+        ResponseCache cache = new ResponseCache(true, 8000);
+        RestApiClient client = cachingClient(cache);
+
+        for (int i = 1; i <= 20; i++) {
+            client.get("/cache/items/" + i);
+        }
+        client.get("/cache/secret");
+
+        assert cache.getSizeBytes() <= 8000 : "Cache holds " + cache.getSizeBytes() + " bytes";
+        assert cache.getEvictions() > 0 : "Nothing was evicted: " + cache;
+        assert client.get("/cache/items/20").isFromCache() : "Most recent entry was evicted";
+        assert !client.get("/cache/items/1").isFromCache() : "Oldest entry survived";
+        assert !client.get("/cache/secret").isFromCache() : "no-store response was cached";
+        logStep("Cache after eviction: " + cache + ", hit ratio " + String.format("%.2f", cache.getHitRatio()));
+    }
+
+    @Test(description = "Identical concurrent GETs share one network call")
+    public void testConcurrentRequestsCoalesced() throws Exception {
+        logTestInfo("testConcurrentRequestsCoalesced", "8 threads asking for the same slow lookup at once cause a single backend request");
+
+        mockServer.mockWithDelay("GET", "/coalesce/lookup", 200, "{\"roles\": [\"admin\"]}", 500);
+        mockServer.mockWithDelay("GET", "/coalesce/other", 200, "{}", 500);
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setRequestCoalescer(coalescer);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ApiResponse>> responses = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                responses.add(pool.submit(MockNamespace.bind(() -> {
+                    start.await();
+                    return client.get("/coalesce/lookup");
+                })));
+            }
+            Future<ApiResponse> other = pool.submit(MockNamespace.bind(() -> {
+                start.await();
+                return client.get("/coalesce/other");
+            }));
+            start.countDown();
+
+            ApiResponse shared = responses.get(0).get();
+            for (Future<ApiResponse> response : responses) {
+                assert response.get() == shared : "Waiters did not share the in-flight response";
+            }
+            assert other.get().getStatusCode() == 200 : "Unrelated request failed";
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assert mockServer.countRequests("GET", "/coalesce/lookup") == 1
+                : "Backend saw " + mockServer.countRequests("GET", "/coalesce/lookup") + " identical requests";
+        assert mockServer.countRequests("GET", "/coalesce/other") == 1 : "Different URL was coalesced away";
+        assert coalescer.getCoalesced() == 7 : "Expected 7 coalesced requests, got " + coalescer.getCoalesced();
+    }
+
+    @Test(description = "Coalescing never merges requests with different headers, nor sequential ones")
+    public void testCoalescingKeys() {
+        logTestInfo("testCoalescingKeys", "Requests are only identical with the same headers, and only while one is in flight");
+
+        String plain = RequestCoalescer.key("GET", "http://localhost/users/1", null, Map.of());
+        String withAuth = RequestCoalescer.key("GET", "http://localhost/users/1", null, Map.of("Authorization", "Bearer a"));
+        String otherAuth = RequestCoalescer.key("GET", "http://localhost/users/1", null, Map.of("authorization", "Bearer b"));
+        assert !plain.equals(withAuth) && !withAuth.equals(otherAuth) : "Header values are not part of the key";
+
+        mockServer.mockGet("/coalesce/sequential", 200, "{}");
+        RequestCoalescer coalescer = new RequestCoalescer(true);
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setRequestCoalescer(coalescer);
+        client.get("/coalesce/sequential");
+        client.get("/coalesce/sequential");
+        assert coalescer.getCoalesced() == 0 && mockServer.countRequests("GET", "/coalesce/sequential") == 2
+                : "Sequential requests were merged";
+    }
+
+    private RestApiClient cachingClient(ResponseCache cache) {
+        RestApiClient client = new RestApiClient(mockServer.getBaseUrl());
+        client.setResponseCache(cache);
+        return client;
+    }
+}
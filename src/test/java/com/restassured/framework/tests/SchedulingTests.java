@@ -0,0 +1,112 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.scheduling.DataFlow;
+import com.restassured.framework.scheduling.DataFlowGraph;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test class for scheduling tests by their declared data dependencies. The
+ * order tests are declared consumers first on purpose: by declaration or by
+ * name, delete would run before create without {@link DataFlow}.
+ */
+public class SchedulingTests extends BaseTest {
+    private final List<String> executed = new CopyOnWriteArrayList<>();
+
+    @BeforeClass(alwaysRun = true)
+    public void startOrderServer() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        mockServer.mockPost("/orders", 201, "{\"id\": 42, \"status\": \"NEW\"}");
+        mockServer.mockGet("/orders/42", 200, "{\"id\": 42, \"status\": \"NEW\"}");
+        mockServer.mockDelete("/orders/42", 204, "");
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Delete the order once it has been read")
+    @DataFlow(consumes = {"orderId", "orderRead"})
+    public void testOrderDelete() {
+        logTestInfo("testOrderDelete", "Sorts first by name but runs last because it consumes orderRead");
+
+        apiClient.delete("/orders/" + consume("orderId", Integer.class)).assertStatusCode(204);
+        executed.add("delete");
+        assert executed.equals(List.of("create", "read", "delete")) : "Tests ran out of data order: " + executed;
+    }
+
+    @Test(description = "Read the created order")
+    @DataFlow(consumes = "orderId", produces = "orderRead")
+    public void testOrderRead() {
+        logTestInfo("testOrderRead", "Runs after testOrderCreate because it consumes orderId");
+
+        int orderId = consume("orderId", Integer.class);
+        ApiResponse response = apiClient.get("/orders/" + orderId);
+        validateSuccessResponse(response);
+        assert response.getIntValue("id") == orderId : "Read a different order: " + response.getBody();
+        produce("orderRead", true);
+        executed.add("read");
+    }
+
+    @Test(description = "Create an order for the dependent tests")
+    @DataFlow(produces = "orderId")
+    public void testOrderCreate() {
+        logTestInfo("testOrderCreate", "Produces the orderId read and deleted by later tests");
+
+        ApiResponse response = apiClient.post("/orders", "{\"item\": \"book\"}");
+        response.assertStatusCode(201);
+        produce("orderId", response.getIntValue("id"));
+        executed.add("create");
+    }
+
+    @Test(description = "Data dependencies become method dependencies")
+    public void testGraphFromDeclarations() {
+        logTestInfo("testGraphFromDeclarations", "Each consumer depends on every producer of what it consumes");
+
+        DataFlowGraph graph = DataFlowGraph.of(SchedulingTests.class);
+        assert graph.dependenciesOf("testOrderCreate").isEmpty() : "Producer has dependencies: " + graph;
+        assert graph.dependenciesOf("testOrderRead").equals(Set.of("testOrderCreate")) : "Unexpected graph " + graph;
+        assert graph.dependenciesOf("testOrderDelete").equals(Set.of("testOrderCreate", "testOrderRead")) : "Unexpected graph " + graph;
+        assert graph.dependenciesOf("testGraphFromDeclarations").isEmpty() : "Undeclared test has dependencies";
+    }
+
+    @Test(description = "Invalid declarations are rejected with the methods involved")
+    public void testInvalidDeclarations() {
+        logTestInfo("testInvalidDeclarations", "Cycles and values nobody produces fail when the graph is built");
+
+        try {
+            DataFlowGraph.of(Cyclic.class);
+            assert false : "Cycle was accepted";
+        } catch (IllegalStateException e) {
+            assert e.getMessage().contains("cycle") && e.getMessage().contains("first") : "Unhelpful message: " + e.getMessage();
+        }
+        try {
+            DataFlowGraph.of(Orphan.class);
+            assert false : "Missing producer was accepted";
+        } catch (IllegalStateException e) {
+            assert e.getMessage().contains("Orphan.lonely consumes 'token'") : "Unhelpful message: " + e.getMessage();
+        }
+    }
+
+    public static class Cyclic {
+        @DataFlow(produces = "a", consumes = "b")
+        public void first() {
+        }
+
+        @DataFlow(produces = "b", consumes = "a")
+        public void second() {
+        }
+    }
+
+    public static class Orphan {
+        @DataFlow(consumes = "token")
+        public void lonely() {
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.scheduling.DataFlow;
+import com.restassured.framework.scheduling.Shard;
+import com.restassured.framework.scheduling.ShardInterceptor;
+import com.restassured.framework.scheduling.ShardPlanner;
+import com.restassured.framework.scheduling.ShardReports;
+import com.restassured.framework.scheduling.TestHistory;
+import com.restassured.framework.scheduling.TestHistoryRecorder;
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.reporter.JsonFormatter;
+import org.testng.ITestResult;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Test class for duration-balanced sharding of the suite
+ */
+public class ShardingTests extends BaseTest {
+
+    @Test(description = "Longest tests are spread first over the least loaded shards")
+    public void testLptPacking() {
+        logTestInfo("testLptPacking", "Durations 2,7,3,5,4,3,2 over three shards load them 9/8/9");
+
+        List<Long> durations = List.of(2L, 7L, 3L, 5L, 4L, 3L, 2L);
+        List<List<Long>> shards = ShardPlanner.assign(durations, Long::longValue, 3);
+
+        List<Long> loads = new ArrayList<>();
+        shards.forEach(shard -> loads.add(shard.stream().mapToLong(Long::longValue).sum()));
+        assert loads.equals(List.of(9L, 8L, 9L)) : "Unexpected shard loads " + loads + " for " + shards;
+        assert shards.get(0).equals(List.of(2L, 7L)) : "Shard lost the input order: " + shards.get(0);
+        assert ShardPlanner.assign(durations, Long::longValue, 3).equals(shards) : "Plan is not deterministic";
+    }
+
+    @Test(description = "Histories written by several shards merge into one")
+    public void testHistoryMergesShardFiles() throws Exception {
+        logTestInfo("testHistoryMergesShardFiles", "The newest entry per test wins and durations are smoothed");
+
+        Path dir = Files.createTempDirectory("test-history");
+        TestHistory first = new TestHistory();
+        first.record("a.Tests.slow", 4000, true);
+        first.record("a.Tests.fast", 100, true);
+        first.save(dir.resolve("history-shard-0-of-2.json"));
+        Thread.sleep(5);
+        TestHistory second = new TestHistory();
+        second.record("a.Tests.slow", 2000, true);
+        second.save(dir.resolve("history-shard-1-of-2.json"));
+
+        TestHistory merged = TestHistory.load(dir);
+        assert merged.size() == 2 : "Expected 2 tests, got " + merged.size();
+        assert merged.durationOf("a.Tests.slow").getAsLong() == 2000 : "Older entry won: " + merged.durationOf("a.Tests.slow");
+        merged.record("a.Tests.slow", 1000, true);
+        assert merged.durationOf("a.Tests.slow").getAsLong() == 1500 : "Duration was not smoothed: " + merged.durationOf("a.Tests.slow");
+        assert !merged.durationOf("a.Tests.unknown").isPresent() : "Unknown test has a duration";
+        assert TestHistory.load(dir.resolve("missing")).size() == 0 : "Missing directory is not an empty history";
+    }
+
+    @Test(description = "Each method runs on exactly one shard, dependent methods together")
+    public void testShardsPartitionSuite() {
+        logTestInfo("testShardsPartitionSuite", "Two shards run disjoint halves of a sample class balanced by duration");
+
+        TestHistory history = new TestHistory();
+        String prefix = ShardSample.class.getName() + ".";
+        history.record(prefix + "longTest", 900, true);
+        history.record(prefix + "createOrder", 300, true);
+        history.record(prefix + "readOrder", 300, true);
+        history.record(prefix + "shortTest", 200, true);
+        history.record(prefix + "otherTest", 100, true);
+
+        Set<String> first = runShard(new Shard(0, 2), history);
+        Set<String> second = runShard(new Shard(1, 2), history);
+        logStep("Shard 0 ran " + first + ", shard 1 ran " + second);
+
+        Set<String> all = new HashSet<>(first);
+        all.addAll(second);
+        assert all.size() == first.size() + second.size() : "A method ran on both shards";
+        assert all.equals(Set.of("longTest", "createOrder", "readOrder", "shortTest", "otherTest")) : "Methods were lost: " + all;
+        assert first.contains("createOrder") == first.contains("readOrder") : "Producer and consumer were split";
+        assert first.contains("longTest") != first.contains("createOrder") : "Longest units share a shard";
+    }
+
+    @Test(description = "Every <test> of a suite is planned from the history loaded at start")
+    public void testShardsAgreeAcrossTestBlocks() throws Exception {
+        logTestInfo("testShardsAgreeAcrossTestBlocks", "Durations recorded in the first <test> do not change the plan of the second");
+
+        TestHistory history = new TestHistory();
+        String prefix = ShardSample.class.getName() + ".";
+        history.record(prefix + "longTest", 900, true);
+        history.record(prefix + "createOrder", 300, true);
+        history.record(prefix + "readOrder", 300, true);
+        history.record(prefix + "shortTest", 200, true);
+        history.record(prefix + "otherTest", 100, true);
+        Path previousRun = Files.createTempDirectory("test-history");
+        history.save(previousRun.resolve("history.json"));
+        Path thisRun = Files.createTempDirectory("test-history");
+
+        Map<String, Set<String>> first = runShardSuite(new Shard(0, 2), previousRun, thisRun);
+        Map<String, Set<String>> second = runShardSuite(new Shard(1, 2), previousRun, thisRun);
+        logStep("Shard 0 ran " + first + ", shard 1 ran " + second);
+
+        assert first.get("First block").equals(first.get("Second block")) : "Shard 0 changed its plan between <test> blocks: " + first;
+        assert second.get("First block").equals(second.get("Second block")) : "Shard 1 changed its plan between <test> blocks: " + second;
+        for (String block : List.of("First block", "Second block")) {
+            Set<String> all = new HashSet<>(first.get(block));
+            all.addAll(second.get(block));
+            assert all.size() == first.get(block).size() + second.get(block).size() : "A method ran on both shards in " + block;
+            assert all.size() == 5 : "Methods were lost in " + block + ": " + all;
+        }
+        assert TestHistory.load(thisRun).durationOf(prefix + "longTest").getAsLong() < 900 : "Finished tests were not recorded";
+    }
+
+    @Test(description = "Shard reports merge into one suite report")
+    public void testMergeShardReports() throws Exception {
+        logTestInfo("testMergeShardReports", "JSON archives of two shards rebuild a single HTML report");
+
+        Path dir = Files.createTempDirectory("extent-shards");
+        for (int i = 0; i < 2; i++) {
+            ExtentReports shardReport = new ExtentReports();
+            shardReport.attachReporter(new JsonFormatter(dir.resolve(new Shard(i, 2).getName() + ".json").toFile()));
+            shardReport.createTest("shard" + i + "Test").pass("ran on shard " + i);
+            shardReport.flush();
+        }
+        Path report = dir.resolve("ExtentReports.html");
+
+        assert ShardReports.merge(dir, report) == 2 : "Not every shard archive was merged";
+        String html = Files.readString(report);
+        assert html.contains("shard0Test") && html.contains("shard1Test") : "Merged report misses shard tests";
+        assert ShardReports.htmlReport(new Shard(1, 4)).equals("target/ExtentReports-shard-1-of-4.html") : "Unexpected shard report path";
+    }
+
+    /**
+     * Run a suite with two &lt;test&gt; blocks of the sample class on one shard, handing the
+     * loaded history to both the interceptor and the recorder
+     */
+    private static Map<String, Set<String>> runShardSuite(Shard shard, Path previousRun, Path thisRun) {
+        TestHistory history = TestHistory.load(previousRun);
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Sharded sample suite");
+        for (String block : List.of("First block", "Second block")) {
+            XmlTest test = new XmlTest(suite);
+            test.setName(block);
+            test.setXmlClasses(List.of(new XmlClass(ShardSample.class)));
+        }
+        TestNG testng = new TestNG(false);
+        testng.setVerbose(0);
+        testng.setXmlSuites(List.of(suite));
+        testng.setListenersToSkipFromBeingWiredInViaServiceLoaders(ShardInterceptor.class.getName(), TestHistoryRecorder.class.getName());
+        testng.addListener(new ShardInterceptor(shard, history));
+        testng.addListener(new TestHistoryRecorder(history, thisRun.resolve("history-" + shard.getName() + ".json")));
+        TestListenerAdapter results = new TestListenerAdapter();
+        testng.addListener(results);
+        testng.run();
+        assert results.getFailedTests().isEmpty() && results.getSkippedTests().isEmpty() : "Sample tests failed on " + shard;
+        Map<String, Set<String>> ran = new TreeMap<>();
+        for (ITestResult result : results.getPassedTests()) {
+            ran.computeIfAbsent(result.getTestContext().getName(), block -> new TreeSet<>()).add(result.getMethod().getMethodName());
+        }
+        return ran;
+    }
+
+    private static Set<String> runShard(Shard shard, TestHistory history) {
+        TestNG testng = new TestNG(false);
+        testng.setVerbose(0);
+        testng.setTestClasses(new Class[]{ShardSample.class});
+        // Only the explicit shard applies, not the one of the suite running this test
+        testng.setListenersToSkipFromBeingWiredInViaServiceLoaders(ShardInterceptor.class.getName(), TestHistoryRecorder.class.getName());
+        testng.addListener(new ShardInterceptor(shard, history));
+        TestListenerAdapter results = new TestListenerAdapter();
+        testng.addListener(results);
+        testng.run();
+        assert results.getFailedTests().isEmpty() && results.getSkippedTests().isEmpty() : "Sample tests failed on " + shard;
+        Set<String> ran = new HashSet<>();
+        for (ITestResult result : results.getPassedTests()) {
+            ran.add(result.getMethod().getMethodName());
+        }
+        return ran;
+    }
+}
+
+/**
+ * Suite sharded by testShardsPartitionSuite; not run on its own
+ */
+class ShardSample {
+    private boolean created;
+
+    @Test
+    public void longTest() {
+    }
+
+    @Test
+    @DataFlow(produces = "order")
+    public void createOrder() {
+        created = true;
+    }
+
+    @Test
+    @DataFlow(consumes = "order")
+    public void readOrder() {
+        assert created : "Consumer ran without its producer";
+    }
+
+    @Test
+    public void shortTest() {
+    }
+
+    @Test
+    public void otherTest() {
+    }
+}
@@ -0,0 +1,312 @@
+package com.restassured.framework.tests;
+
+import com.restassured.framework.base.BaseTest;
+import com.restassured.framework.core.ApiResponse;
+import com.restassured.framework.core.MockNamespace;
+import com.restassured.framework.core.RestApiClient;
+import com.restassured.framework.mocks.ApiMockServer;
+import com.restassured.framework.mocks.MockRequest;
+import com.restassured.framework.mocks.RequestJournal;
+import com.restassured.framework.mocks.StubTable;
+import com.restassured.framework.utils.DataUtils;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Test class for stub routing and stub responses in the mock server
+ */
+public class StubRoutingTests extends BaseTest {
+
+    @BeforeClass(alwaysRun = true)
+    public void startRoutingServer() {
+        mockServer = new ApiMockServer(0);
+        mockServer.start();
+        apiClient = new RestApiClient(mockServer.getBaseUrl());
+    }
+
+    @Test(description = "Route among thousands of stubs")
+    public void testRoutingWithManyStubs() {
+        logTestInfo("testRoutingWithManyStubs", "Register thousands of stubs and hit one of them");
+
+        for (int i = 0; i < 5000; i++) {
+            mockServer.mockGet("/users/" + i, 200, "{\"id\": " + i + "}");
+        }
+
+        ApiResponse response = apiClient.get("/users/4321");
+
+        response.assertStatusCode(200);
+        response.assertJsonPathValue("id", 4321);
+        assert mockServer.getStubCount() == 5000 : "Expected 5000 stubs but got " + mockServer.getStubCount();
+    }
+
+    @Test(description = "Path parameters and literal precedence")
+    public void testPathParameterRouting() {
+        logTestInfo("testPathParameterRouting", "Literal segments win over {param} segments");
+
+        mockServer.mockGet("/users/{id}/posts", 200, "{\"source\": \"template\"}");
+        mockServer.mockGet("/users/7/posts", 200, "{\"source\": \"literal\"}");
+
+        apiClient.get("/users/7/posts").assertJsonPathValue("source", "literal");
+        apiClient.get("/users/8/posts").assertJsonPathValue("source", "template");
+        validateErrorResponse(apiClient.get("/users/8/comments"), 404);
+    }
+
+    @Test(description = "Body and header conditions")
+    public void testRequestConditions() {
+        logTestInfo("testRequestConditions", "Body patterns and header conditions select between stubs");
+
+        mockServer.mockPost("/orders", 400, "{\"status\": \"fallback\"}");
+        mockServer.mockWithBodyMatching("POST", "/orders", "$.sku", 201, "{\"status\": \"matched\"}");
+        Map<String, String> headerPatterns = new HashMap<>();
+        headerPatterns.put("X-Tenant", "tenant-\\d+");
+        mockServer.mockWithHeaderMatching("GET", "/orders", headerPatterns, 200, "{\"status\": \"tenant\"}");
+
+        apiClient.post("/orders", DataUtils.createTestData("sku", "A-1")).assertStatusCode(201);
+        apiClient.post("/orders", DataUtils.createTestData("name", "no sku")).assertStatusCode(400);
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-Tenant", "tenant-42");
+        apiClient.get("/orders", headers).assertJsonPathValue("status", "tenant");
+        validateErrorResponse(apiClient.get("/orders"), 404);
+    }
+
+    @Test(description = "JSON path filters only match when they select something")
+    public void testBodyFilterConditions() {
+        logTestInfo("testBodyFilterConditions", "Filter and deep-scan paths that select nothing do not match");
+
+        mockServer.mockPost("/filtered/users", 400, "{\"status\": \"fallback\"}");
+        mockServer.mockWithBodyMatching("POST", "/filtered/users", "$[?(@.role == 'admin')]", 201, "{\"status\": \"admin\"}");
+        mockServer.mockWithBodyMatching("POST", "/filtered/carts", "$..sku", 201, "{\"status\": \"cart\"}");
+        mockServer.mockPost("/filtered/carts", 400, "{\"status\": \"fallback\"}");
+
+        apiClient.post("/filtered/users", "{\"role\": \"admin\"}").assertJsonPathValue("status", "admin");
+        apiClient.post("/filtered/users", "{\"role\": \"guest\"}").assertJsonPathValue("status", "fallback");
+        apiClient.post("/filtered/carts", "{\"items\": [{\"sku\": \"A-1\"}]}").assertJsonPathValue("status", "cart");
+        apiClient.post("/filtered/carts", "{\"items\": [{\"name\": \"no sku\"}]}").assertJsonPathValue("status", "fallback");
+    }
+
+    @Test(description = "Query strings in stub endpoints are conditions")
+    public void testQueryConditions() {
+        logTestInfo("testQueryConditions", "Stubs on the same path with different query strings coexist");
+
+        mockServer.mockGet("/query/users?role=admin", 200, "{\"role\": \"admin\"}");
+        mockServer.mockGet("/query/users?role=guest", 200, "{\"role\": \"guest\"}");
+        mockServer.mockGet("/query/users", 200, "{\"role\": \"any\"}");
+
+        apiClient.get("/query/users", null, Map.of("role", "admin", "page", 2)).assertJsonPathValue("role", "admin");
+        apiClient.get("/query/users", null, Map.of("role", "guest")).assertJsonPathValue("role", "guest");
+        apiClient.get("/query/users", null, Map.of("role", "owner")).assertJsonPathValue("role", "any");
+        apiClient.get("/query/users").assertJsonPathValue("role", "any");
+    }
+
+    @Test(description = "File-backed response body")
+    public void testFileBackedResponseBody() throws Exception {
+        logTestInfo("testFileBackedResponseBody", "Serve a multi-MB fixture streamed from disk");
+
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 50000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"id\": ").append(i).append(", \"name\": \"user-").append(i).append("\"}");
+        }
+        json.append("]");
+        Path fixture = Files.createTempFile("export", ".json");
+        Files.write(fixture, json.toString().getBytes(StandardCharsets.UTF_8));
+        mockServer.mockGetFromFile("/exports/users", 200, fixture);
+
+        ApiResponse response = apiClient.get("/exports/users");
+
+        response.assertStatusCode(200);
+        response.assertJsonPathValue("$[49999].name", "user-49999");
+        assert response.getBody().length() == Files.size(fixture) : "Streamed body length does not match the fixture";
+    }
+
+    @Test(description = "Missing response body file")
+    public void testMissingBodyFile() throws Exception {
+        logTestInfo("testMissingBodyFile", "A stub whose body file was deleted after registration answers 500 and names the file");
+
+        Path fixture = Files.createTempFile("export", ".json");
+        mockServer.mockGetFromFile("/exports/missing", 200, fixture);
+        Files.delete(fixture);
+
+        ApiResponse response = apiClient.get("/exports/missing");
+
+        response.assertStatusCode(500);
+        assert response.getBody().contains(fixture.getFileName().toString()) : "Error does not name the file: " + response.getBody();
+    }
+
+    @Test(description = "Roll back to a stub snapshot")
+    public void testSnapshotRollback() {
+        logTestInfo("testSnapshotRollback", "Layer stubs on a snapshot and roll back in O(1)");
+
+        mockServer.mockGet("/config", 200, "{\"layer\": \"base\"}");
+        StubTable.Snapshot snapshot = mockServer.snapshot();
+        mockServer.mockGet("/config", 200, "{\"layer\": \"override\"}");
+        for (int i = 0; i < 1000; i++) {
+            mockServer.mockGet("/temporary/" + i, 200, "{}");
+        }
+
+        apiClient.get("/config").assertJsonPathValue("layer", "override");
+        mockServer.reset(snapshot);
+
+        apiClient.get("/config").assertJsonPathValue("layer", "base");
+        validateErrorResponse(apiClient.get("/temporary/1"), 404);
+        assert mockServer.getStubCount() == snapshot.size() : "Expected only the snapshot's stubs after rollback";
+    }
+
+    @Test(description = "Class stubs roll back without touching other classes")
+    public void testClassNamespaceRollback() {
+        logTestInfo("testClassNamespaceRollback", "Method namespaces layer on their class's stubs; class teardown drops only that class");
+
+        String methodNamespace = MockNamespace.get();
+        try {
+            MockNamespace.set("FirstClass#1");
+            mockServer.mockGet("/owner", 200, "{\"owner\": \"first\"}");
+            MockNamespace.set("SecondClass#2");
+            mockServer.mockGet("/owner", 200, "{\"owner\": \"second\"}");
+
+            MockNamespace.set("FirstClass#1");
+            StubTable.Snapshot classStubs = mockServer.snapshot();
+            MockNamespace.set("FirstClass.test#3");
+            mockServer.reset(classStubs);
+            mockServer.mockGet("/method-only", 200, "{}");
+            apiClient.get("/owner").assertJsonPathValue("owner", "first");
+            apiClient.get("/method-only").assertStatusCode(200);
+            mockServer.reset();
+
+            MockNamespace.set("FirstClass#1");
+            mockServer.reset();
+            validateErrorResponse(apiClient.get("/owner"), 404);
+            MockNamespace.set("SecondClass#2");
+            apiClient.get("/owner").assertJsonPathValue("owner", "second");
+            mockServer.reset();
+        } finally {
+            MockNamespace.set(methodNamespace);
+        }
+    }
+
+    @Test(description = "Namespaced stubs are isolated between threads")
+    public void testNamespaceIsolation() throws Exception {
+        logTestInfo("testNamespaceIsolation", "Parallel tests register the same endpoint in their own namespaces");
+
+        int tests = 8;
+        ExecutorService pool = Executors.newFixedThreadPool(tests);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < tests; i++) {
+                String namespace = "parallel-test-" + i;
+                futures.add(pool.submit(() -> {
+                    MockNamespace.set(namespace);
+                    try {
+                        mockServer.mockGet("/whoami", 200, "{\"namespace\": \"" + namespace + "\"}");
+                        for (int call = 0; call < 20; call++) {
+                            apiClient.get("/whoami").assertJsonPathValue("namespace", namespace);
+                        }
+                        mockServer.reset();
+                        validateErrorResponse(apiClient.get("/whoami"), 404);
+                    } finally {
+                        MockNamespace.clear();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test(description = "Pool threads only see a namespace handed to them")
+    public void testNamespaceNotInherited() throws Exception {
+        logTestInfo("testNamespaceNotInherited", "A pool thread sees the method's stubs only in a bound task");
+
+        mockServer.mockGet("/scoped/stub", 200, "{}");
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            validateErrorResponse(pool.submit(() -> apiClient.get("/scoped/stub")).get(), 404);
+            pool.submit(MockNamespace.bind(() -> apiClient.get("/scoped/stub"))).get().assertStatusCode(200);
+            assert pool.submit(MockNamespace::get).get() == null : "Namespace outlived the bound task";
+        } finally {
+            pool.shutdownNow();
+        }
+        assert MockNamespace.isMockServer(mockServer.getBaseUrl()) : "Running mock server not recognized";
+        assert !MockNamespace.isMockServer("https://jsonplaceholder.typicode.com") : "Namespace would be sent to a real backend";
+    }
+
+    @Test(description = "Verify journaled requests")
+    public void testRequestVerification() throws Exception {
+        logTestInfo("testRequestVerification", "Verify request counts and bodies after concurrent calls");
+
+        mockServer.mockPost("/users", 201, "{\"id\": 11}");
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                String name = i % 4 == 0 ? "Target" : "Other " + i;
+                futures.add(pool.submit(MockNamespace.bind(() -> apiClient.post("/users", DataUtils.createTestData("name", name)))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        mockServer.verify(12, "POST", "/users");
+        mockServer.verify(3, "POST", "/users", body -> body.contains("\"Target\""));
+        mockServer.verify(0, "GET", "/users/{id}");
+    }
+
+    @Test(description = "Journal keeps the newest requests when the ring wraps")
+    public void testJournalWrapUnderContention() throws Exception {
+        logTestInfo("testJournalWrapUnderContention", "8 writers lap a 64-slot ring; evicted entries are spilled or counted");
+
+        Path spillFile = Files.createTempFile("journal", ".jsonl");
+        RequestJournal journal = new RequestJournal(64, spillFile);
+        int writers = 8;
+        int perWriter = 5000;
+        ExecutorService pool = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perWriter; i++) {
+                        journal.record(new MockRequest("GET", "/journal/" + i, null, null, null));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+            journal.close();
+        }
+
+        long total = journal.totalRecorded();
+        List<RequestJournal.Entry> retained = journal.find(request -> true);
+        assert total == (long) writers * perWriter : "Recorded " + total + " requests";
+        assert retained.size() == 64 : "Ring lost newer entries, retained " + retained.size();
+        assert retained.get(0).getSequence() == total - 64 : "Oldest retained entry is " + retained.get(0).getSequence();
+        long spilled;
+        try (Stream<String> lines = Files.lines(spillFile)) {
+            spilled = lines.count();
+        }
+        assert spilled + journal.droppedCount() == total - 64
+                : "Spilled " + spilled + " and dropped " + journal.droppedCount() + " of " + (total - 64) + " evicted entries";
+        logStep("Spilled " + spilled + ", dropped " + journal.droppedCount());
+        Files.deleteIfExists(spillFile);
+    }
+}